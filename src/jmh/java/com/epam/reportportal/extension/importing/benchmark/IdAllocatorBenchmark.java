@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+import com.epam.reportportal.extension.importing.service.IdAllocator;
+import com.epam.reportportal.extension.importing.service.IdAllocatorType;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link IdAllocator} strategies, generation alone by concurrent imports and together
+ * with inserts into a sorted index, where time-ordered identifiers append to the end instead of
+ * landing on random positions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdAllocatorBenchmark {
+
+  private static final int INDEX_SIZE = 100_000;
+
+  @Param({"UUID_V7", "RANDOM"})
+  private IdAllocatorType type;
+
+  private IdAllocator allocator;
+
+  @Setup
+  public void setUp() {
+    allocator = type.getAllocator();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public String nextId() {
+    return allocator.nextId();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 5)
+  @Measurement(iterations = 20)
+  public TreeSet<String> insertIntoIndex() {
+    TreeSet<String> index = new TreeSet<>();
+    for (int i = 0; i < INDEX_SIZE; i++) {
+      index.add(allocator.nextId());
+    }
+    return index;
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import com.epam.reportportal.extension.importing.model.LaunchImportRQ;
+import com.epam.reportportal.extension.importing.service.BatchingEventPublisher.BatchExecutor;
+import com.epam.reportportal.extension.importing.service.ImportMetrics;
+import com.epam.reportportal.extension.importing.service.ImportProgress;
+import com.epam.reportportal.extension.importing.service.ImportStrategy;
+import com.epam.reportportal.extension.importing.service.ImportStrategyFactory;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Soak test: a single import of a multi-GB report, generated on the fly, in a fork with a
+ * small heap. The import fails with {@link OutOfMemoryError} if any part of the pipeline
+ * holds the report, its entries or whole log blocks in memory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx64m")
+public class ImportSoakBenchmark {
+
+  private static final long ONE_MB = 1024 * 1024;
+  private static final long ZIP_ENTRY_SIZE = 256 * ONE_MB;
+
+  @Param({"2048"})
+  private long megabytes;
+
+  @Param({"xml", "zip"})
+  private String format;
+
+  private ImportStrategyFactory importStrategyFactory;
+
+  @Setup
+  public void setUp() {
+    importStrategyFactory = new ImportStrategyFactory(new NoOpEventPublisher(),
+        ZipImportStrategyBenchmark.launchUpdater(), new ImportProperties(),
+        BatchExecutor.direct(), () -> {
+          throw new IllegalStateException("Soak import is sequential");
+        }, ZipImportStrategyBenchmark.noPublishExecutor(), ImportMetrics.noop());
+  }
+
+  @Benchmark
+  public String importReport(ThroughputCounters counters) throws IOException {
+    String fileName = "soak." + format;
+    long size = megabytes * ONE_MB;
+    SyntheticReportInputStream[] reports = new SyntheticReportInputStream[
+        (int) ((size + ZIP_ENTRY_SIZE - 1) / ZIP_ENTRY_SIZE)];
+    Supplier<InputStream> content = "zip".equals(format) ? () -> zipStream(reports, size)
+        : () -> reports[0] = new SyntheticReportInputStream(size);
+
+    ImportStrategy importStrategy = importStrategyFactory.getImportStrategy(fileName);
+    String launchUuid = importStrategy.importLaunch(
+        new GeneratedMultipartFile(fileName, content), "benchmark", new LaunchImportRQ(),
+        new ImportProgress(UUID.randomUUID().toString(), "benchmark", importStrategy.getName()));
+    for (SyntheticReportInputStream report : reports) {
+      if (report != null) {
+        counters.record(report.getTestcases(), report.getProduced());
+      }
+    }
+    return launchUuid;
+  }
+
+  /*
+   * Archive is written by a separate thread into a pipe, so it's never stored as a whole
+   */
+  private static InputStream zipStream(SyntheticReportInputStream[] reports, long size) {
+    try {
+      PipedInputStream in = new PipedInputStream((int) ONE_MB);
+      PipedOutputStream out = new PipedOutputStream(in);
+      Thread writer = new Thread(() -> {
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+          for (int i = 0; i < reports.length; i++) {
+            reports[i] = new SyntheticReportInputStream(
+                Math.min(ZIP_ENTRY_SIZE, size - i * ZIP_ENTRY_SIZE));
+            zip.putNextEntry(new ZipEntry("TEST-Soak" + i + ".xml"));
+            reports[i].transferTo(zip);
+            zip.closeEntry();
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }, "soak-zip-writer");
+      writer.setDaemon(true);
+      writer.start();
+      return in;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static class GeneratedMultipartFile implements MultipartFile {
+
+    private final String originalFilename;
+    private final Supplier<InputStream> content;
+
+    GeneratedMultipartFile(String originalFilename, Supplier<InputStream> content) {
+      this.originalFilename = originalFilename;
+      this.content = content;
+    }
+
+    @Override
+    public String getName() {
+      return "file";
+    }
+
+    @Override
+    public String getOriginalFilename() {
+      return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+      return null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return false;
+    }
+
+    @Override
+    public long getSize() {
+      return -1;
+    }
+
+    @Override
+    public byte[] getBytes() {
+      throw new UnsupportedOperationException("Generated report can't be buffered");
+    }
+
+    @Override
+    public InputStream getInputStream() {
+      return content.get();
+    }
+
+    @Override
+    public void transferTo(File dest) {
+      throw new UnsupportedOperationException("Generated report can't be copied");
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import com.epam.reportportal.extension.importing.model.LaunchImportRQ;
+import com.epam.reportportal.extension.importing.service.BatchingEventPublisher.BatchExecutor;
+import com.epam.reportportal.extension.importing.service.ImportMetrics;
+import com.epam.reportportal.extension.importing.service.ImportProgress;
+import com.epam.reportportal.extension.importing.service.ImportStrategy;
+import com.epam.reportportal.extension.importing.service.ImportStrategyFactory;
+import com.epam.reportportal.extension.importing.service.ImportThreadType;
+import com.epam.reportportal.extension.importing.utils.FileSystemMultipartFile;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Import of an archive with many small reports, with entries parsed by platform and by virtual
+ * threads. Every published event blocks for a while, as a host listener writing to the
+ * database does, so the import is bound by waiting rather than by the CPU.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ImportThreadTypeBenchmark {
+
+  private static final String ARCHIVE_NAME = "benchmark.zip";
+
+  @Param({"1000"})
+  private int entries;
+
+  @Param({"5"})
+  private int testcases;
+
+  @Param({"16", "128"})
+  private int parallelism;
+
+  @Param({"200"})
+  private long latencyMicros;
+
+  @Param({"PLATFORM", "VIRTUAL"})
+  private ImportThreadType threadType;
+
+  private JunitReportGenerator.Report report;
+  private Path archive;
+  private ExecutorService parseExecutor;
+  private ImportStrategy importStrategy;
+
+  @Setup
+  public void setUp() throws IOException {
+    report = JunitReportGenerator.generate(JunitReportShape.FLAT, testcases);
+    archive = Files.createTempFile("benchmark-", ".zip");
+    try (OutputStream out = Files.newOutputStream(archive);
+        ZipOutputStream zip = new ZipOutputStream(out)) {
+      for (int i = 0; i < entries; i++) {
+        zip.putNextEntry(new ZipEntry("TEST-Suite" + i + ".xml"));
+        zip.write(report.getContent());
+        zip.closeEntry();
+      }
+    }
+
+    ImportProperties importProperties = new ImportProperties();
+    importProperties.setParseParallelism(parallelism);
+    // every entry is worth a thread
+    importProperties.setParseBytesPerThread(1);
+    parseExecutor = threadType.newExecutor("benchmark-parse", parallelism - 1);
+    importStrategy = new ImportStrategyFactory(
+        new LatencyEventPublisher(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(latencyMicros))),
+        ZipImportStrategyBenchmark.launchUpdater(), importProperties, BatchExecutor.direct(),
+        () -> parseExecutor, ZipImportStrategyBenchmark.noPublishExecutor(), ImportMetrics.noop())
+        .getImportStrategy(ARCHIVE_NAME);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    parseExecutor.shutdownNow();
+    Files.deleteIfExists(archive);
+  }
+
+  @Benchmark
+  public String importArchive(ThroughputCounters counters) {
+    String launchUuid = importStrategy.importLaunch(
+        new FileSystemMultipartFile(archive, "file", ARCHIVE_NAME, "application/zip"),
+        "benchmark", new LaunchImportRQ(),
+        new ImportProgress(UUID.randomUUID().toString(), "benchmark", importStrategy.getName()));
+    counters.record(report, entries);
+    return launchUuid;
+  }
+}
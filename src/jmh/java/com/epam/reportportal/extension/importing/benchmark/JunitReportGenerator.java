@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Builds synthetic JUnit XML reports of a given {@link JunitReportShape}.
+ */
+public final class JunitReportGenerator {
+
+  private static final LocalDateTime BASE_TIME = LocalDateTime.ofInstant(
+      Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+  private static final int NESTING_DEPTH = 12;
+  private static final int SYSTEM_OUT_LINES = 2_000;
+  private static final int SYSTEM_OUT_EVERY = 20;
+  private static final int PROPERTIES_PER_ITEM = 50;
+
+  private final StringBuilder xml = new StringBuilder();
+  private int testcases;
+  private int seconds;
+
+  private JunitReportGenerator() {
+  }
+
+  /**
+   * Generates a report of the given shape.
+   *
+   * @param shape     report shape
+   * @param testcases approximate number of testcases in the report
+   * @return generated report
+   */
+  public static Report generate(JunitReportShape shape, int testcases) {
+    JunitReportGenerator generator = new JunitReportGenerator();
+    generator.xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuites>\n");
+    switch (shape) {
+      case NESTED:
+        generator.nested(testcases);
+        break;
+      case LARGE_SYSTEM_OUT:
+        generator.suites(testcases, 10, false, true);
+        break;
+      case MANY_PROPERTIES:
+        generator.suites(testcases, 20, true, false);
+        break;
+      case FLAT:
+      default:
+        generator.suites(testcases, 100, false, false);
+        break;
+    }
+    generator.xml.append("</testsuites>\n");
+    return new Report(generator.xml.toString().getBytes(StandardCharsets.UTF_8),
+        generator.testcases);
+  }
+
+  private void suites(int total, int perSuite, boolean properties, boolean systemOut) {
+    for (int suite = 0; testcases < total; suite++) {
+      openSuite("com.example.Suite" + suite);
+      if (properties) {
+        properties();
+      }
+      for (int i = 0; i < perSuite && testcases < total; i++) {
+        testcase(i, properties, systemOut);
+      }
+      xml.append("</testsuite>\n");
+    }
+  }
+
+  private void nested(int total) {
+    for (int tree = 0; testcases < total; tree++) {
+      for (int depth = 0; depth < NESTING_DEPTH; depth++) {
+        openSuite("com.example.tree" + tree + ".Level" + depth);
+        testcase(depth, false, false);
+      }
+      for (int depth = 0; depth < NESTING_DEPTH; depth++) {
+        xml.append("</testsuite>\n");
+      }
+    }
+  }
+
+  private void openSuite(String name) {
+    xml.append("<testsuite name=\"").append(name).append("\" tests=\"100\" time=\"12.5\" ")
+        .append("timestamp=\"").append(BASE_TIME.plusSeconds(seconds)).append("\">\n");
+  }
+
+  private void testcase(int index, boolean properties, boolean systemOut) {
+    testcases++;
+    seconds++;
+    xml.append("<testcase name=\"shouldDoSomethingUseful").append(index)
+        .append("\" classname=\"com.example.Test\" time=\"0.125\" timestamp=\"")
+        .append(BASE_TIME.plusSeconds(seconds)).append("\">\n");
+    if (properties) {
+      properties();
+    }
+    if (index % 10 == 3) {
+      xml.append("<failure message=\"expected:&lt;1&gt; but was:&lt;2&gt;\" ")
+          .append("type=\"java.lang.AssertionError\">java.lang.AssertionError: expected\n")
+          .append("\tat com.example.Test.shouldDoSomethingUseful(Test.java:42)\n")
+          .append("</failure>\n");
+    } else if (index % 10 == 7) {
+      xml.append("<skipped/>\n");
+    }
+    if (systemOut && testcases % SYSTEM_OUT_EVERY == 0) {
+      xml.append("<system-out><![CDATA[");
+      for (int line = 0; line < SYSTEM_OUT_LINES; line++) {
+        xml.append("2025-01-01 00:00:00.000 INFO  [main] c.e.Test - processing line ")
+            .append(line).append('\n');
+      }
+      xml.append("]]></system-out>\n");
+    }
+    xml.append("</testcase>\n");
+  }
+
+  private void properties() {
+    xml.append("<properties>\n");
+    for (int i = 0; i < PROPERTIES_PER_ITEM; i++) {
+      if (i % 5 == 0) {
+        xml.append("<property name=\"attribute\" value=\"key").append(i).append(":value")
+            .append(i).append("\"/>\n");
+      } else {
+        xml.append("<property name=\"java.property").append(i).append("\" value=\"value")
+            .append(i).append("\"/>\n");
+      }
+    }
+    xml.append("</properties>\n");
+  }
+
+  /**
+   * Generated report content with the number of testcases it holds.
+   */
+  public static final class Report {
+
+    private final byte[] content;
+    private final int testcases;
+
+    Report(byte[] content, int testcases) {
+      this.content = content;
+      this.testcases = testcases;
+    }
+
+    public byte[] getContent() {
+      return content;
+    }
+
+    public int getTestcases() {
+      return testcases;
+    }
+  }
+}
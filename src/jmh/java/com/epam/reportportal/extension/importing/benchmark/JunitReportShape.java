@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+/**
+ * Shapes of synthetic JUnit reports used by the benchmarks.
+ */
+public enum JunitReportShape {
+
+  // many sibling suites with plain passed/failed testcases
+  FLAT,
+
+  // deeply nested testsuite trees
+  NESTED,
+
+  // testcases with large system-out blocks
+  LARGE_SYSTEM_OUT,
+
+  // suites and testcases carrying many property elements
+  MANY_PROPERTIES
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * {@link ApplicationEventPublisher} stand-in that blocks for a fixed time on every event, the
+ * way a synchronous host listener waits for the database.
+ */
+public class LatencyEventPublisher implements ApplicationEventPublisher {
+
+  private final Duration latency;
+
+  private final LongAdder published = new LongAdder();
+
+  public LatencyEventPublisher(Duration latency) {
+    this.latency = latency;
+  }
+
+  @Override
+  public void publishEvent(Object event) {
+    try {
+      Thread.sleep(latency);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    published.increment();
+  }
+
+  public long getPublished() {
+    return published.sum();
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * {@link ApplicationEventPublisher} stand-in that only counts published events, so the
+ * benchmarks measure the plugin side of an import without the host persistence.
+ */
+public class NoOpEventPublisher implements ApplicationEventPublisher {
+
+  private final LongAdder published = new LongAdder();
+
+  @Override
+  public void publishEvent(Object event) {
+    published.increment();
+  }
+
+  public long getPublished() {
+    return published.sum();
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.XML_EXTENSION;
+
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import com.epam.reportportal.extension.importing.service.BatchingEventPublisher.BatchExecutor;
+import com.epam.reportportal.extension.importing.service.ImportMetrics;
+import com.epam.reportportal.extension.importing.service.ImportProgress;
+import com.epam.reportportal.extension.importing.service.ParseResults;
+import com.epam.reportportal.extension.importing.service.XunitParseService;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parse of a single report with events published in the parsing thread and through the
+ * publishing pipeline. Every published event blocks for a while, as a host listener writing to
+ * the database does, so the pipeline overlaps the parsing with the waits.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PipelinedPublishBenchmark {
+
+  @Param({"FLAT", "LARGE_SYSTEM_OUT"})
+  private JunitReportShape shape;
+
+  @Param({"2000"})
+  private int testcases;
+
+  @Param({"50"})
+  private long latencyMicros;
+
+  @Param({"0", "1024"})
+  private int pipelineCapacity;
+
+  private JunitReportGenerator.Report report;
+  private ExecutorService publishExecutor;
+  private XunitParseService parseService;
+  private String launchUuid;
+
+  @Setup
+  public void setUp() {
+    report = JunitReportGenerator.generate(shape, testcases);
+    ImportProperties importProperties = new ImportProperties();
+    importProperties.setPublishPipelineCapacity(pipelineCapacity);
+    publishExecutor = importProperties.getThreadType().newExecutor("benchmark-publish", 1);
+    parseService = new XunitParseService(
+        new LatencyEventPublisher(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(latencyMicros))),
+        importProperties, BatchExecutor.direct(), () -> publishExecutor, ImportMetrics.noop());
+    launchUuid = UUID.randomUUID().toString();
+  }
+
+  @TearDown
+  public void tearDown() {
+    publishExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  public ParseResults parse(ThroughputCounters counters) {
+    ParseResults results = parseService.call(new ByteArrayInputStream(report.getContent()),
+        new ImportProgress(launchUuid, "benchmark", XML_EXTENSION), false);
+    counters.record(report);
+    return results;
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+import com.epam.reportportal.extension.importing.service.PreScanResults;
+import com.epam.reportportal.extension.importing.service.ReportPreScanner;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the {@link ReportPreScanner} pass, to be compared with the full parse of
+ * {@link XunitParseServiceBenchmark} on the same report shapes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReportPreScannerBenchmark {
+
+  @Param({"FLAT", "NESTED", "LARGE_SYSTEM_OUT", "MANY_PROPERTIES"})
+  private JunitReportShape shape;
+
+  @Param({"10000"})
+  private int testcases;
+
+  private JunitReportGenerator.Report report;
+  private ReportPreScanner preScanner;
+
+  @Setup
+  public void setUp() {
+    report = JunitReportGenerator.generate(shape, testcases);
+    preScanner = new ReportPreScanner();
+  }
+
+  @Benchmark
+  public PreScanResults scan(ThroughputCounters counters) {
+    PreScanResults results = preScanner.scan(new ByteArrayInputStream(report.getContent()));
+    counters.record(report);
+    return results;
+  }
+}
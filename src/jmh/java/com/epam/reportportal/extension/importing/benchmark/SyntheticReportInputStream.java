@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JUnit XML report of a given size generated on the fly, so reports far larger than the heap
+ * can be imported without being held anywhere. Most testcases carry a short system-out, a
+ * few of them carry one that exceeds the in-memory log limit.
+ */
+public class SyntheticReportInputStream extends InputStream {
+
+  private static final int LARGE_OUTPUT_EVERY = 20_000;
+  private static final int LARGE_OUTPUT_LINES = 25_000;
+  private static final int OUTPUT_LINES = 16;
+
+  private static final byte[] HEADER = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+      + "<testsuites>\n<testsuite name=\"com.example.SoakSuite\" time=\"12.5\" "
+      + "timestamp=\"2025-01-01T00:00:00\">\n").getBytes(StandardCharsets.UTF_8);
+  private static final byte[] FOOTER = "</testsuite>\n</testsuites>\n"
+      .getBytes(StandardCharsets.UTF_8);
+  private static final byte[] TESTCASE = testcase(OUTPUT_LINES);
+  private static final byte[] LARGE_OUTPUT_TESTCASE = testcase(LARGE_OUTPUT_LINES);
+
+  private final long size;
+
+  private byte[] chunk = HEADER;
+  private int position;
+  private long produced;
+  private long testcases;
+  private boolean footerProduced;
+
+  /**
+   * @param size approximate report size in bytes
+   */
+  public SyntheticReportInputStream(long size) {
+    this.size = size;
+  }
+
+  @Override
+  public int read() {
+    byte[] b = new byte[1];
+    return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) {
+    if (len == 0) {
+      return 0;
+    }
+    if (position == chunk.length && !nextChunk()) {
+      return -1;
+    }
+    int count = Math.min(len, chunk.length - position);
+    System.arraycopy(chunk, position, b, off, count);
+    position += count;
+    produced += count;
+    return count;
+  }
+
+  public long getProduced() {
+    return produced;
+  }
+
+  public long getTestcases() {
+    return testcases;
+  }
+
+  private boolean nextChunk() {
+    if (produced < size) {
+      testcases++;
+      chunk = testcases % LARGE_OUTPUT_EVERY == 0 ? LARGE_OUTPUT_TESTCASE : TESTCASE;
+    } else if (!footerProduced) {
+      footerProduced = true;
+      chunk = FOOTER;
+    } else {
+      return false;
+    }
+    position = 0;
+    return true;
+  }
+
+  private static byte[] testcase(int outputLines) {
+    StringBuilder xml = new StringBuilder("<testcase name=\"shouldSurviveSoak\" ")
+        .append("classname=\"com.example.SoakTest\" time=\"0.125\">\n<system-out><![CDATA[");
+    for (int line = 0; line < outputLines; line++) {
+      xml.append("2025-01-01 00:00:00.000 INFO  [main] c.e.SoakTest - processing line ")
+          .append(line).append('\n');
+    }
+    return xml.append("]]></system-out>\n</testcase>\n").toString()
+        .getBytes(StandardCharsets.UTF_8);
+  }
+}
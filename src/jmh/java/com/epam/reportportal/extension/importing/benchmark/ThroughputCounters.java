@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary JMH counters, reported as rates next to the primary score: testcases/sec and
+ * MB/sec of imported XML.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class ThroughputCounters {
+
+  private static final double ONE_MB = 1024 * 1024;
+
+  public long testcases;
+
+  public double megabytes;
+
+  @Setup(Level.Iteration)
+  public void reset() {
+    testcases = 0;
+    megabytes = 0;
+  }
+
+  public void record(JunitReportGenerator.Report report) {
+    record(report, 1);
+  }
+
+  public void record(JunitReportGenerator.Report report, int times) {
+    record((long) report.getTestcases() * times, (long) report.getContent().length * times);
+  }
+
+  public void record(long testcases, long bytes) {
+    this.testcases += testcases;
+    this.megabytes += bytes / ONE_MB;
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+import com.epam.reportportal.extension.importing.utils.TimestampParser;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link TimestampParser} against the former per-call formatter construction with
+ * exception-driven detection of epoch millis.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimestampParserBenchmark {
+
+  @Param({"2025-01-01T10:15:30", "2025-01-01T10:15:30.123+02:00", "1735726530123"})
+  private String timestamp;
+
+  private TimestampParser timestampParser;
+
+  @Setup
+  public void setUp() {
+    timestampParser = new TimestampParser();
+  }
+
+  @Benchmark
+  public Instant parse() {
+    return timestampParser.parse(timestamp);
+  }
+
+  @Benchmark
+  public Instant legacyParse() {
+    try {
+      return Instant.ofEpochMilli(Long.parseLong(timestamp));
+    } catch (NumberFormatException ignored) {
+      DateTimeFormatter formatter =
+          new DateTimeFormatterBuilder().appendOptional(DateTimeFormatter.RFC_1123_DATE_TIME)
+              .appendOptional(DateTimeFormatter.ISO_OFFSET_DATE_TIME)
+              .appendOptional(DateTimeFormatter.ISO_LOCAL_DATE_TIME).optionalStart()
+              .appendOffsetId().appendZoneId().optionalEnd().optionalStart().appendLiteral(' ')
+              .parseCaseSensitive().appendZoneId().optionalEnd().toFormatter();
+      TemporalAccessor temporalAccessor = formatter.parse(timestamp);
+      if (temporalAccessor.query(TemporalQueries.offset()) != null) {
+        return ZonedDateTime.from(temporalAccessor).withZoneSameInstant(ZoneOffset.UTC)
+            .toInstant();
+      }
+      return LocalDateTime.from(temporalAccessor).toInstant(ZoneOffset.UTC);
+    }
+  }
+}
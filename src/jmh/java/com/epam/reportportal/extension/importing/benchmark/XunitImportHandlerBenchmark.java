@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.XML_EXTENSION;
+
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import com.epam.reportportal.extension.importing.service.ImportProgress;
+import com.epam.reportportal.extension.importing.service.XunitImportHandler;
+import java.io.ByteArrayInputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link XunitImportHandler} callbacks driven by a parser created once, so the score isolates
+ * the handler from the per-document parser setup measured by
+ * {@link XunitParseServiceBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class XunitImportHandlerBenchmark {
+
+  @Param({"FLAT", "NESTED", "LARGE_SYSTEM_OUT", "MANY_PROPERTIES"})
+  private JunitReportShape shape;
+
+  @Param({"10000"})
+  private int testcases;
+
+  private JunitReportGenerator.Report report;
+  private NoOpEventPublisher eventPublisher;
+  private ImportProperties importProperties;
+  private SAXParser saxParser;
+  private String launchUuid;
+
+  @Setup
+  public void setUp() throws Exception {
+    report = JunitReportGenerator.generate(shape, testcases);
+    eventPublisher = new NoOpEventPublisher();
+    importProperties = new ImportProperties();
+    saxParser = SAXParserFactory.newInstance().newSAXParser();
+    launchUuid = UUID.randomUUID().toString();
+  }
+
+  @Benchmark
+  public long handle(ThroughputCounters counters) throws Exception {
+    try (XunitImportHandler handler = new XunitImportHandler(eventPublisher, importProperties)) {
+      handler.withParameters(new ImportProgress(launchUuid, "benchmark", XML_EXTENSION), false);
+      saxParser.reset();
+      saxParser.parse(new ByteArrayInputStream(report.getContent()), handler);
+      counters.record(report);
+      return handler.getCommonDuration() + eventPublisher.getPublished();
+    }
+  }
+}
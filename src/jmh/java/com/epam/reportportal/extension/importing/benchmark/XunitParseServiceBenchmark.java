@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.XML_EXTENSION;
+
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import com.epam.reportportal.extension.importing.service.BatchingEventPublisher.BatchExecutor;
+import com.epam.reportportal.extension.importing.service.ImportMetrics;
+import com.epam.reportportal.extension.importing.service.ImportProgress;
+import com.epam.reportportal.extension.importing.service.ParseResults;
+import com.epam.reportportal.extension.importing.service.XunitParseService;
+import com.epam.reportportal.extension.importing.service.XunitParserType;
+import java.io.ByteArrayInputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end parse of a synthetic report through {@link XunitParseService#call}, including
+ * the per-document parser setup, for each available {@link XunitParserType}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class XunitParseServiceBenchmark {
+
+  @Param({"FLAT", "NESTED", "LARGE_SYSTEM_OUT", "MANY_PROPERTIES"})
+  private JunitReportShape shape;
+
+  @Param({"10000"})
+  private int testcases;
+
+  @Param({"SAX", "STAX"})
+  private XunitParserType parser;
+
+  private JunitReportGenerator.Report report;
+  private XunitParseService parseService;
+  private String launchUuid;
+
+  @Setup
+  public void setUp() {
+    report = JunitReportGenerator.generate(shape, testcases);
+    ImportProperties importProperties = new ImportProperties();
+    importProperties.setParserType(parser);
+    parseService = new XunitParseService(new NoOpEventPublisher(), importProperties,
+        BatchExecutor.direct(), ZipImportStrategyBenchmark.noPublishExecutor(),
+        ImportMetrics.noop());
+    launchUuid = UUID.randomUUID().toString();
+  }
+
+  @Benchmark
+  public ParseResults parse(ThroughputCounters counters) {
+    ParseResults results = parseService.call(new ByteArrayInputStream(report.getContent()),
+        new ImportProgress(launchUuid, "benchmark", XML_EXTENSION), false);
+    counters.record(report);
+    return results;
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+import com.epam.reportportal.extension.importing.service.XunitReportTag;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Element name to {@link XunitReportTag} dispatch: the precomputed lookup against the former
+ * linear scan over all enum values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(XunitReportTagBenchmark.NAMES_COUNT)
+public class XunitReportTagBenchmark {
+
+  static final int NAMES_COUNT = 10;
+
+  // element names in roughly the proportion they appear in a surefire report
+  private final String[] names = {"testcase", "testcase", "testcase", "failure", "system-out",
+      "testsuite", "property", "property", "properties", "rerunFailure"};
+
+  @Benchmark
+  public void lookup(Blackhole blackhole) {
+    for (String name : names) {
+      blackhole.consume(XunitReportTag.fromString(name));
+    }
+  }
+
+  @Benchmark
+  public void linearScan(Blackhole blackhole) {
+    for (String name : names) {
+      blackhole.consume(Arrays.stream(XunitReportTag.values())
+          .filter(it -> it.getValue().equalsIgnoreCase(name)).findAny()
+          .orElse(XunitReportTag.UNKNOWN));
+    }
+  }
+}
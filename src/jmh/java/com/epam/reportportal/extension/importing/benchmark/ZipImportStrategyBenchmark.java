@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.benchmark;
+
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import com.epam.reportportal.extension.importing.model.LaunchImportRQ;
+import com.epam.reportportal.extension.importing.service.BatchingEventPublisher.BatchExecutor;
+import com.epam.reportportal.extension.importing.service.ImportMetrics;
+import com.epam.reportportal.extension.importing.service.ImportProgress;
+import com.epam.reportportal.extension.importing.service.ImportStrategy;
+import com.epam.reportportal.extension.importing.service.ImportStrategyFactory;
+import com.epam.reportportal.extension.importing.service.LaunchUpdater;
+import com.epam.reportportal.extension.importing.utils.FileSystemMultipartFile;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Import of a Surefire-like archive with many report files through the zip
+ * {@link ImportStrategy}, sequentially and with entries parsed in parallel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ZipImportStrategyBenchmark {
+
+  private static final String ARCHIVE_NAME = "benchmark.zip";
+
+  @Param({"200"})
+  private int entries;
+
+  @Param({"500"})
+  private int testcases;
+
+  @Param({"1", "4"})
+  private int parallelism;
+
+  private JunitReportGenerator.Report report;
+  private Path archive;
+  private ExecutorService parseExecutor;
+  private ImportStrategy importStrategy;
+
+  @Setup
+  public void setUp() throws IOException {
+    report = JunitReportGenerator.generate(JunitReportShape.FLAT, testcases);
+    archive = Files.createTempFile("benchmark-", ".zip");
+    try (OutputStream out = Files.newOutputStream(archive);
+        ZipOutputStream zip = new ZipOutputStream(out)) {
+      for (int i = 0; i < entries; i++) {
+        zip.putNextEntry(new ZipEntry("TEST-Suite" + i + ".xml"));
+        zip.write(report.getContent());
+        zip.closeEntry();
+      }
+    }
+
+    ImportProperties importProperties = new ImportProperties();
+    importProperties.setParseParallelism(parallelism);
+    parseExecutor = Executors.newFixedThreadPool(Math.max(1, parallelism - 1));
+    importStrategy = new ImportStrategyFactory(new NoOpEventPublisher(), launchUpdater(),
+        importProperties, BatchExecutor.direct(), () -> parseExecutor, noPublishExecutor(),
+        ImportMetrics.noop())
+        .getImportStrategy(ARCHIVE_NAME);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    parseExecutor.shutdownNow();
+    Files.deleteIfExists(archive);
+  }
+
+  @Benchmark
+  public String importArchive(ThroughputCounters counters) {
+    String launchUuid = importStrategy.importLaunch(
+        new FileSystemMultipartFile(archive, "file", ARCHIVE_NAME, "application/zip"),
+        "benchmark", new LaunchImportRQ(),
+        new ImportProgress(UUID.randomUUID().toString(), "benchmark", importStrategy.getName()));
+    counters.record(report, entries);
+    return launchUuid;
+  }
+
+  // the launch start time update is the only database call of an import
+  /**
+   * @return supplier of the publishing pipeline executor, the pipeline is disabled by default
+   */
+  static Supplier<ExecutorService> noPublishExecutor() {
+    return () -> {
+      throw new IllegalStateException("Publishing pipeline is disabled");
+    };
+  }
+
+  static LaunchUpdater launchUpdater() {
+    return new LaunchUpdater() {
+      @Override
+      public void updateStartTime(String launchUuid, Instant startTime) {
+      }
+
+      @Override
+      public void interrupt(String launchUuid, Instant startTime) {
+      }
+    };
+  }
+}
@@ -1,6 +1,5 @@
 package com.epam.reportportal.extension.importing;
 
-import static com.epam.reportportal.extension.importing.command.XUnitImportCommand.MAX_FILE_SIZE;
 import static com.epam.reportportal.extension.util.CommonConstants.DESCRIPTION_KEY;
 import static com.epam.reportportal.extension.util.CommonConstants.IS_INTEGRATIONS_ALLOWED;
 import static com.epam.reportportal.extension.util.CommonConstants.METADATA;
@@ -11,8 +10,23 @@ import com.epam.reportportal.extension.IntegrationGroupEnum;
 import com.epam.reportportal.extension.PluginCommand;
 import com.epam.reportportal.extension.ReportPortalExtensionPoint;
 import com.epam.reportportal.extension.common.IntegrationTypeProperties;
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import com.epam.reportportal.extension.importing.command.ImportStatusCommand;
+import com.epam.reportportal.extension.importing.command.ImportUploadChunkCommand;
+import com.epam.reportportal.extension.importing.command.ImportUploadCompleteCommand;
+import com.epam.reportportal.extension.importing.command.ImportUploadInitCommand;
 import com.epam.reportportal.extension.importing.command.XUnitImportCommand;
 import com.epam.reportportal.extension.importing.event.plugin.PluginLoadedEventHandler;
+import com.epam.reportportal.extension.importing.service.BatchingEventPublisher.BatchExecutor;
+import com.epam.reportportal.extension.importing.service.ImportDeduplicator;
+import com.epam.reportportal.extension.importing.service.ImportMetrics;
+import com.epam.reportportal.extension.importing.service.ImportProgressRegistry;
+import com.epam.reportportal.extension.importing.service.ImportScheduler;
+import com.epam.reportportal.extension.importing.service.ImportStrategyFactory;
+import com.epam.reportportal.extension.importing.service.JpqlLaunchUpdater;
+import com.epam.reportportal.extension.importing.service.LaunchUpdater;
+import com.epam.reportportal.extension.importing.service.RepositoryLaunchUpdater;
+import com.epam.reportportal.extension.importing.service.upload.ChunkedUploadRegistry;
 import com.epam.reportportal.extension.importing.utils.MemoizingSupplier;
 import com.epam.reportportal.extension.util.RequestEntityConverter;
 import com.epam.reportportal.infrastructure.persistence.dao.IntegrationRepository;
@@ -21,11 +35,17 @@ import com.epam.reportportal.infrastructure.persistence.dao.LaunchRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import org.pf4j.Extension;
 import org.springframework.beans.factory.DisposableBean;
@@ -35,6 +55,8 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * @author Andrei Piankouski
@@ -60,6 +82,22 @@ public class ImportXUnitPluginExtension implements ReportPortalExtensionPoint, D
 
   private final Supplier<ApplicationListener<PluginUploadedEvent>> pluginLoadedListenerSupplier;
 
+  private final Supplier<ImportProperties> importPropertiesSupplier;
+
+  private final MemoizingSupplier<ImportScheduler> importSchedulerSupplier;
+
+  private final MemoizingSupplier<ImportScheduler> uploadSchedulerSupplier;
+
+  private final Supplier<ImportProgressRegistry> progressRegistrySupplier;
+
+  private final MemoizingSupplier<ExecutorService> parseExecutorSupplier;
+
+  private final MemoizingSupplier<ExecutorService> publishExecutorSupplier;
+
+  private final Supplier<ImportMetrics> importMetricsSupplier;
+
+  private final MemoizingSupplier<ChunkedUploadRegistry> uploadRegistrySupplier;
+
   private final RequestEntityConverter requestEntityConverter;
 
   @Autowired
@@ -86,6 +124,46 @@ public class ImportXUnitPluginExtension implements ReportPortalExtensionPoint, D
             integrationRepository)
     );
 
+    importPropertiesSupplier = new MemoizingSupplier<>(
+        () -> ImportProperties.from(applicationContext.getEnvironment()));
+
+    importSchedulerSupplier = new MemoizingSupplier<>(
+        () -> new ImportScheduler(importPropertiesSupplier.get().getSchedulerThreads(),
+            importPropertiesSupplier.get().getSchedulerProjectThreads(),
+            importPropertiesSupplier.get().getSchedulerQueueCapacity(),
+            importPropertiesSupplier.get().getSchedulerProjectQueueCapacity(),
+            importPropertiesSupplier.get().getThreadType()));
+
+    // imports of chunked uploads wait for their chunks, so they don't take the scheduler threads
+    uploadSchedulerSupplier = new MemoizingSupplier<>(
+        () -> new ImportScheduler(importPropertiesSupplier.get().getUploadImportThreads(),
+            importPropertiesSupplier.get().getSchedulerProjectThreads(),
+            importPropertiesSupplier.get().getUploadImportQueueCapacity(),
+            importPropertiesSupplier.get().getSchedulerProjectQueueCapacity(),
+            importPropertiesSupplier.get().getThreadType()));
+
+    // shared by all the imports, a thread of each import takes part in parsing as well
+    parseExecutorSupplier = new MemoizingSupplier<>(
+        () -> importPropertiesSupplier.get().getThreadType().newExecutor("junit-import-parse",
+            Math.max(1, importPropertiesSupplier.get().getParseParallelism() - 1)));
+
+    // shared by the publishing pipelines of all the imports
+    publishExecutorSupplier = new MemoizingSupplier<>(
+        () -> importPropertiesSupplier.get().getThreadType().newExecutor("junit-import-publish",
+            importPropertiesSupplier.get().getPublishPipelineThreads()));
+
+    importMetricsSupplier = new MemoizingSupplier<>(() -> Optional.ofNullable(
+            applicationContext.getBeanProvider(MeterRegistry.class).getIfUnique())
+        .map(ImportMetrics::new)
+        .orElseGet(ImportMetrics::noop));
+
+    progressRegistrySupplier = new MemoizingSupplier<>(() -> new ImportProgressRegistry(
+        Duration.ofMinutes(importPropertiesSupplier.get().getStatusRetentionMinutes())));
+
+    uploadRegistrySupplier = new MemoizingSupplier<>(() -> new ChunkedUploadRegistry(
+        Path.of(importPropertiesSupplier.get().getUploadSpoolDir()),
+        Duration.ofMinutes(importPropertiesSupplier.get().getUploadIdleTimeoutMinutes())));
+
     ObjectMapper objectMapper = new ObjectMapper();
     objectMapper.registerModule(new JavaTimeModule());
     objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -108,6 +186,22 @@ public class ImportXUnitPluginExtension implements ReportPortalExtensionPoint, D
   @Override
   public void destroy() {
     removeListeners();
+    // imports waiting for chunks are failed, so they don't block the shutdown
+    if (uploadRegistrySupplier.isInitialized()) {
+      uploadRegistrySupplier.get().abortAll();
+    }
+    if (importSchedulerSupplier.isInitialized()) {
+      importSchedulerSupplier.get().shutdown();
+    }
+    if (uploadSchedulerSupplier.isInitialized()) {
+      uploadSchedulerSupplier.get().shutdown();
+    }
+    if (parseExecutorSupplier.isInitialized()) {
+      parseExecutorSupplier.get().shutdownNow();
+    }
+    if (publishExecutorSupplier.isInitialized()) {
+      publishExecutorSupplier.get().shutdownNow();
+    }
   }
 
   private void removeListeners() {
@@ -126,10 +220,11 @@ public class ImportXUnitPluginExtension implements ReportPortalExtensionPoint, D
     params.put(COMMON_COMMANDS, new ArrayList<>(commonPluginCommandMapping.get().keySet()));
     params.put(DESCRIPTION_KEY, DESCRIPTION);
     params.put(METADATA, Map.of(IS_INTEGRATIONS_ALLOWED, false));
-    params.put("maxFileSize", MAX_FILE_SIZE);
+    params.put("maxFileSize", importPropertiesSupplier.get().getMaxFileSize());
     params.put("acceptFileMimeTypes",
         List.of("application/zip", "application/x-zip-compressed", "application/zip-compressed",
-            "application/xml", "text/xml"));
+            "application/xml", "text/xml", "application/gzip", "application/x-gzip",
+            "application/x-tar", "application/x-gtar", "application/x-compressed-tar"));
     return params;
   }
 
@@ -148,15 +243,59 @@ public class ImportXUnitPluginExtension implements ReportPortalExtensionPoint, D
     return IntegrationGroupEnum.IMPORT;
   }
 
+  /*
+   * Batches are published in a single transaction if the host provides a transaction manager,
+   * otherwise events of a batch are published one by one
+   */
+  private BatchExecutor getBatchExecutor() {
+    return Optional.ofNullable(
+            applicationContext.getBeanProvider(PlatformTransactionManager.class).getIfUnique())
+        .map(BatchExecutor::transactional)
+        .orElseGet(BatchExecutor::direct);
+  }
+
+  /*
+   * Launch columns are updated by a single statement if the host exposes its entity manager,
+   * otherwise the launch entity is loaded and saved through the repository
+   */
+  private LaunchUpdater getLaunchUpdater() {
+    EntityManagerFactory entityManagerFactory = applicationContext.getBeanProvider(
+        EntityManagerFactory.class).getIfUnique();
+    PlatformTransactionManager transactionManager = applicationContext.getBeanProvider(
+        PlatformTransactionManager.class).getIfUnique();
+    if (entityManagerFactory == null || transactionManager == null) {
+      return new RepositoryLaunchUpdater(launchRepository);
+    }
+    return new JpqlLaunchUpdater(
+        SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory),
+        transactionManager);
+  }
+
   private Map<String, PluginCommand> getCommands() {
     return new HashMap<>();
   }
 
   private Map<String, CommonPluginCommand<?>> getCommonCommands() {
     HashMap<String, CommonPluginCommand<?>> pluginCommands = new HashMap<>();
+    var importStrategyFactory = new ImportStrategyFactory(eventPublisher, getLaunchUpdater(),
+        importPropertiesSupplier.get(), getBatchExecutor(), parseExecutorSupplier,
+        publishExecutorSupplier, importMetricsSupplier.get());
     var xunitImportCommand = new XUnitImportCommand(requestEntityConverter,
-        eventPublisher, launchRepository);
+        importStrategyFactory, importSchedulerSupplier, uploadSchedulerSupplier,
+        progressRegistrySupplier.get(),
+        importPropertiesSupplier.get(), importMetricsSupplier.get(), new ImportDeduplicator(
+            Duration.ofMinutes(importPropertiesSupplier.get().getDedupTtlMinutes()),
+            importPropertiesSupplier.get().getDedupMaxEntries()));
     pluginCommands.put(xunitImportCommand.getName(), xunitImportCommand);
+    var importStatusCommand = new ImportStatusCommand(progressRegistrySupplier.get());
+    pluginCommands.put(importStatusCommand.getName(), importStatusCommand);
+    var uploadInitCommand = new ImportUploadInitCommand(uploadRegistrySupplier.get(),
+        xunitImportCommand);
+    pluginCommands.put(uploadInitCommand.getName(), uploadInitCommand);
+    var uploadChunkCommand = new ImportUploadChunkCommand(uploadRegistrySupplier.get());
+    pluginCommands.put(uploadChunkCommand.getName(), uploadChunkCommand);
+    var uploadCompleteCommand = new ImportUploadCompleteCommand(uploadRegistrySupplier.get());
+    pluginCommands.put(uploadCompleteCommand.getName(), uploadCompleteCommand);
     return pluginCommands;
   }
 }
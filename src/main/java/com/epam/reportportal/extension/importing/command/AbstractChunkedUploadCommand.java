@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.command;
+
+import static com.epam.reportportal.infrastructure.rules.exception.ErrorType.BAD_REQUEST_ERROR;
+
+import com.epam.reportportal.extension.CommonPluginCommand;
+import com.epam.reportportal.extension.importing.model.ChunkedUploadRS;
+import com.epam.reportportal.extension.importing.service.upload.ChunkedUpload;
+import com.epam.reportportal.extension.importing.service.upload.ChunkedUploadRegistry;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Base of the commands of the chunked upload protocol: {@link ImportUploadInitCommand},
+ * {@link ImportUploadChunkCommand} and {@link ImportUploadCompleteCommand}.
+ */
+public abstract class AbstractChunkedUploadCommand implements
+    CommonPluginCommand<ChunkedUploadRS> {
+
+  protected static final String UPLOAD_ID = "uploadId";
+  private static final String PROJECT_NAME = "projectName";
+
+  protected final ChunkedUploadRegistry uploadRegistry;
+
+  protected AbstractChunkedUploadCommand(ChunkedUploadRegistry uploadRegistry) {
+    this.uploadRegistry = uploadRegistry;
+  }
+
+  protected String getProjectName(Map<String, Object> params) {
+    return getParam(params, PROJECT_NAME);
+  }
+
+  protected ChunkedUpload getUpload(Map<String, Object> params) {
+    return uploadRegistry.get(getParam(params, UPLOAD_ID), getProjectName(params));
+  }
+
+  protected String getParam(Map<String, Object> params, String name) {
+    return Optional.ofNullable(params.get(name)).map(String::valueOf)
+        .orElseThrow(() -> new ReportPortalException(BAD_REQUEST_ERROR, name + " wasn't provided"));
+  }
+
+  protected long getLongParam(Map<String, Object> params, String name) {
+    String value = getParam(params, name);
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      throw new ReportPortalException(BAD_REQUEST_ERROR, name + " should be a number: " + value);
+    }
+  }
+
+  protected ChunkedUploadRS prepareUploadResponse(ChunkedUpload upload) {
+    var data = new ChunkedUploadRS();
+    data.setUploadId(upload.getUploadId());
+    data.setId(upload.getLaunchUuid());
+    data.setSize(upload.getSize());
+    data.setReceived(upload.getReceived());
+    return data;
+  }
+}
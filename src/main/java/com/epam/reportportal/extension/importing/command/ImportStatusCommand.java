@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.command;
+
+import static com.epam.reportportal.infrastructure.rules.exception.ErrorType.BAD_REQUEST_ERROR;
+import static com.epam.reportportal.infrastructure.rules.exception.ErrorType.LAUNCH_NOT_FOUND;
+
+import com.epam.reportportal.extension.CommonPluginCommand;
+import com.epam.reportportal.extension.importing.model.ImportStatusRS;
+import com.epam.reportportal.extension.importing.service.ImportProgress;
+import com.epam.reportportal.extension.importing.service.ImportProgressRegistry;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reports the state of a launch import started by {@link XUnitImportCommand}.
+ */
+public class ImportStatusCommand implements CommonPluginCommand<ImportStatusRS> {
+
+  private static final String LAUNCH_UUID = "launchUuid";
+  private static final String PROJECT_NAME = "projectName";
+
+  private final ImportProgressRegistry progressRegistry;
+
+  public ImportStatusCommand(ImportProgressRegistry progressRegistry) {
+    this.progressRegistry = progressRegistry;
+  }
+
+  @Override
+  public ImportStatusRS executeCommand(Map<String, Object> params) {
+    String launchUuid = Optional.ofNullable(params.get(LAUNCH_UUID)).map(String::valueOf)
+        .orElseThrow(() -> new ReportPortalException(BAD_REQUEST_ERROR, "Launch uuid wasn't provided"));
+    String projectName = Optional.ofNullable(params.get(PROJECT_NAME)).map(String::valueOf)
+        .orElseThrow(() -> new ReportPortalException(BAD_REQUEST_ERROR, "Project name wasn't provided"));
+
+    // imports of other projects are reported as missing
+    ImportProgress progress = progressRegistry.find(launchUuid)
+        .filter(it -> projectName.equals(it.getProjectName()))
+        .orElseThrow(() -> new ReportPortalException(LAUNCH_NOT_FOUND, launchUuid));
+    return prepareStatusResponse(progress);
+  }
+
+  @Override
+  public String getName() {
+    return "importStatus";
+  }
+
+  private ImportStatusRS prepareStatusResponse(ImportProgress progress) {
+    var data = new ImportStatusRS();
+    data.setId(progress.getLaunchUuid());
+    data.setState(progress.getState().name());
+    data.setFiles(progress.getFiles());
+    data.setItems(progress.getItems());
+    data.setExpectedItems(progress.getExpectedItems());
+    data.setLogs(progress.getLogs());
+    data.setMessage(progress.getMessage());
+    return data;
+  }
+}
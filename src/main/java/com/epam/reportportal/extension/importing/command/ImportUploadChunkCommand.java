@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.command;
+
+import static com.epam.reportportal.infrastructure.rules.exception.ErrorType.BAD_REQUEST_ERROR;
+
+import com.epam.reportportal.extension.importing.model.ChunkedUploadRS;
+import com.epam.reportportal.extension.importing.service.upload.ChunkedUpload;
+import com.epam.reportportal.extension.importing.service.upload.ChunkedUploadRegistry;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Appends a chunk to an upload. A chunk may overlap the received bytes, e.g. when it's resent
+ * after a failure, but it can't start beyond them.
+ */
+public class ImportUploadChunkCommand extends AbstractChunkedUploadCommand {
+
+  private static final String FILE_PARAM = "file";
+  private static final String OFFSET = "offset";
+
+  public ImportUploadChunkCommand(ChunkedUploadRegistry uploadRegistry) {
+    super(uploadRegistry);
+  }
+
+  @Override
+  public ChunkedUploadRS executeCommand(Map<String, Object> params) {
+    ChunkedUpload upload = getUpload(params);
+    long offset = getLongParam(params, OFFSET);
+    MultipartFile chunk = (MultipartFile) Optional.ofNullable(params.get(FILE_PARAM))
+        .orElseThrow(() -> new ReportPortalException(BAD_REQUEST_ERROR, "Chunk wasn't provided"));
+    try (InputStream inputStream = chunk.getInputStream()) {
+      upload.append(offset, inputStream);
+    } catch (IOException e) {
+      throw new ReportPortalException("Error during transferring upload chunk.", e);
+    }
+    return prepareUploadResponse(upload);
+  }
+
+  @Override
+  public String getName() {
+    return "importUploadChunk";
+  }
+}
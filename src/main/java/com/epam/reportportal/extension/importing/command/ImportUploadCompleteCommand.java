@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.command;
+
+import com.epam.reportportal.extension.importing.model.ChunkedUploadRS;
+import com.epam.reportportal.extension.importing.service.upload.ChunkedUpload;
+import com.epam.reportportal.extension.importing.service.upload.ChunkedUploadRegistry;
+import java.util.Map;
+
+/**
+ * Completes an upload once all of its bytes are received, the import reads the rest of the file
+ * and finishes the launch. The import is tracked by the import status command afterward.
+ */
+public class ImportUploadCompleteCommand extends AbstractChunkedUploadCommand {
+
+  public ImportUploadCompleteCommand(ChunkedUploadRegistry uploadRegistry) {
+    super(uploadRegistry);
+  }
+
+  @Override
+  public ChunkedUploadRS executeCommand(Map<String, Object> params) {
+    ChunkedUpload upload = getUpload(params);
+    uploadRegistry.complete(upload);
+    return prepareUploadResponse(upload);
+  }
+
+  @Override
+  public String getName() {
+    return "importUploadComplete";
+  }
+}
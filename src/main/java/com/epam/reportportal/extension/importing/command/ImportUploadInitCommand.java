@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.command;
+
+import com.epam.reportportal.extension.importing.model.ChunkedUploadRS;
+import com.epam.reportportal.extension.importing.service.upload.ChunkedUpload;
+import com.epam.reportportal.extension.importing.service.upload.ChunkedUploadRegistry;
+import java.util.Map;
+
+/**
+ * Starts a chunked upload of a file and its import, the launch is imported while the chunks are
+ * received. An upload in progress is resumed by its id: the response tells the received bytes
+ * to continue from.
+ */
+public class ImportUploadInitCommand extends AbstractChunkedUploadCommand {
+
+  private static final String FILE_NAME = "fileName";
+  private static final String SIZE = "size";
+
+  private final XUnitImportCommand importCommand;
+
+  public ImportUploadInitCommand(ChunkedUploadRegistry uploadRegistry,
+      XUnitImportCommand importCommand) {
+    super(uploadRegistry);
+    this.importCommand = importCommand;
+  }
+
+  @Override
+  public ChunkedUploadRS executeCommand(Map<String, Object> params) {
+    if (params.containsKey(UPLOAD_ID)) {
+      return prepareUploadResponse(getUpload(params));
+    }
+    ChunkedUpload upload = uploadRegistry.create(getProjectName(params),
+        getParam(params, FILE_NAME), getLongParam(params, SIZE));
+    try {
+      upload.setLaunchUuid(importCommand.importUpload(params, upload, uploadRegistry));
+    } catch (RuntimeException e) {
+      uploadRegistry.abort(upload, e.getMessage());
+      // the import didn't take the upload
+      upload.release();
+      throw e;
+    }
+    return prepareUploadResponse(upload);
+  }
+
+  @Override
+  public String getName() {
+    return "importUploadInit";
+  }
+}
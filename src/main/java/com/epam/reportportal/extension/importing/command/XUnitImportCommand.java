@@ -1,54 +1,96 @@
 package com.epam.reportportal.extension.importing.command;
 
-import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.XML_EXTENSION;
-import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.ZIP_EXTENSION;
+import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.SUPPORTED_EXTENSIONS;
 import static com.epam.reportportal.extension.util.CommandParamUtils.ENTITY_PARAM;
 import static com.epam.reportportal.infrastructure.rules.commons.validation.BusinessRule.expect;
 import static com.epam.reportportal.infrastructure.rules.exception.ErrorType.BAD_REQUEST_ERROR;
+import static com.epam.reportportal.infrastructure.rules.exception.ErrorType.IMPORT_FILE_ERROR;
 import static com.epam.reportportal.infrastructure.rules.exception.ErrorType.INCORRECT_REQUEST;
-import static org.apache.commons.io.FileUtils.ONE_MB;
 
 import com.epam.reportportal.extension.CommonPluginCommand;
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import com.epam.reportportal.extension.importing.model.ImportSummary;
 import com.epam.reportportal.extension.importing.model.LaunchImportRQ;
+import com.epam.reportportal.extension.importing.model.LaunchImportRS;
+import com.epam.reportportal.extension.importing.service.ImportDeduplicator;
+import com.epam.reportportal.extension.importing.service.ImportMetrics;
+import com.epam.reportportal.extension.importing.service.ImportProgress;
+import com.epam.reportportal.extension.importing.service.ImportProgressRegistry;
+import com.epam.reportportal.extension.importing.service.ImportScheduler;
 import com.epam.reportportal.extension.importing.service.ImportStrategy;
 import com.epam.reportportal.extension.importing.service.ImportStrategyFactory;
+import com.epam.reportportal.extension.importing.service.upload.ChunkedUpload;
+import com.epam.reportportal.extension.importing.service.upload.ChunkedUploadRegistry;
+import com.epam.reportportal.extension.importing.utils.FileSystemMultipartFile;
 import com.epam.reportportal.extension.util.RequestEntityConverter;
-import com.epam.reportportal.infrastructure.persistence.dao.LaunchRepository;
 import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
-import com.epam.reportportal.reporting.StartLaunchRS;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.Uninterruptibles;
+import io.micrometer.core.instrument.LongTaskTimer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import org.springframework.context.ApplicationEventPublisher;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.output.TeeOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
  * @author Pavel Bortnik
  */
-public class XUnitImportCommand implements CommonPluginCommand<StartLaunchRS> {
+public class XUnitImportCommand implements CommonPluginCommand<LaunchImportRS> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(XUnitImportCommand.class);
 
-  public static final long MAX_FILE_SIZE = 32 * ONE_MB;
   private static final String FILE_PARAM = "file";
   private static final String PROJECT_NAME = "projectName";
 
   private final RequestEntityConverter requestEntityConverter;
   private final ImportStrategyFactory importStrategyFactory;
-  private final LaunchRepository launchRepository;
+  private final Supplier<ImportScheduler> importSchedulerSupplier;
+  private final Supplier<ImportScheduler> uploadSchedulerSupplier;
+  private final ImportProgressRegistry progressRegistry;
+  private final ImportProperties importProperties;
+  private final ImportMetrics importMetrics;
+  private final ImportDeduplicator importDeduplicator;
 
   public XUnitImportCommand(RequestEntityConverter requestEntityConverter,
-      ApplicationEventPublisher eventPublisher,
-      LaunchRepository launchRepository) {
+      ImportStrategyFactory importStrategyFactory, Supplier<ImportScheduler> importSchedulerSupplier,
+      Supplier<ImportScheduler> uploadSchedulerSupplier, ImportProgressRegistry progressRegistry,
+      ImportProperties importProperties, ImportMetrics importMetrics,
+      ImportDeduplicator importDeduplicator) {
     this.requestEntityConverter = requestEntityConverter;
-    this.launchRepository = launchRepository;
-    this.importStrategyFactory = new ImportStrategyFactory(eventPublisher, launchRepository);
+    this.importDeduplicator = importDeduplicator;
+    this.importMetrics = importMetrics;
+    this.importProperties = importProperties;
+    this.importStrategyFactory = importStrategyFactory;
+    this.importSchedulerSupplier = importSchedulerSupplier;
+    this.uploadSchedulerSupplier = uploadSchedulerSupplier;
+    this.progressRegistry = progressRegistry;
   }
 
   @Override
-  public StartLaunchRS executeCommand(Map<String, Object> params) {
+  public LaunchImportRS executeCommand(Map<String, Object> params) {
 
-    LaunchImportRQ launchImportRQ = Optional.ofNullable(params.get(ENTITY_PARAM))
-        .map(it -> requestEntityConverter.getEntity(ENTITY_PARAM, params, LaunchImportRQ.class))
-        .orElseGet(LaunchImportRQ::new);
+    LaunchImportRQ launchImportRQ = getLaunchImportRQ(params);
 
     MultipartFile file = (MultipartFile) Optional.ofNullable(params.get(FILE_PARAM))
         .orElseThrow(() -> new ReportPortalException(BAD_REQUEST_ERROR, "File for import wasn't provided"));
@@ -61,8 +103,12 @@ public class XUnitImportCommand implements CommonPluginCommand<StartLaunchRS> {
     String projectName = Optional.ofNullable(params.get(PROJECT_NAME)).map(String::valueOf)
         .orElseThrow(() -> new ReportPortalException(BAD_REQUEST_ERROR, "Project name wasn't provided"));
 
-    String launchUuid = importStrategy.importLaunch(file, projectName, launchImportRQ);
-    return prepareLaunchImportResponse(launchUuid);
+    ImportProgress progress = new ImportProgress(
+        importProperties.getIdAllocatorType().getAllocator().nextId(), projectName,
+        importStrategy.getName());
+    return launchImportRQ.isAsync()
+        ? importAsync(importStrategy, file, projectName, launchImportRQ, progress)
+        : importSync(importStrategy, file, projectName, launchImportRQ, progress);
   }
 
   @Override
@@ -70,19 +116,274 @@ public class XUnitImportCommand implements CommonPluginCommand<StartLaunchRS> {
     return "import";
   }
 
+  /**
+   * Imports a chunked upload asynchronously, while its chunks are being received. Deduplication
+   * is skipped, as the content isn't known upfront. The import waits for the chunks, so it's run
+   * by a scheduler of its own, a slow or abandoned upload doesn't delay other imports.
+   *
+   * @param params         command params with the import parameters
+   * @param upload         upload to import, it's released by the import once it's completed
+   * @param uploadRegistry registry of the upload, the upload is aborted if the import fails
+   * @return uuid of the imported launch
+   */
+  public String importUpload(Map<String, Object> params, ChunkedUpload upload,
+      ChunkedUploadRegistry uploadRegistry) {
+    LaunchImportRQ launchImportRQ = getLaunchImportRQ(params);
+    validate(upload);
+    ImportStrategy importStrategy = importStrategyFactory.getImportStrategy(
+        upload.getOriginalFilename());
+    String projectName = upload.getProjectName();
+    ImportProgress progress = new ImportProgress(
+        importProperties.getIdAllocatorType().getAllocator().nextId(), projectName,
+        importStrategy.getName());
+    ImportScheduler.Reservation reservation = uploadSchedulerSupplier.get().reserve(projectName);
+    progressRegistry.register(progress);
+    try {
+      reservation.execute(() -> {
+        try {
+          runImport(importStrategy, upload, projectName, launchImportRQ, progress);
+        } catch (RuntimeException e) {
+          LOGGER.error("Import of launch {} failed", progress.getLaunchUuid(), e);
+          uploadRegistry.abort(upload,
+              "Import of launch " + progress.getLaunchUuid() + " failed: " + e.getMessage());
+        } finally {
+          upload.release();
+        }
+      });
+    } catch (RuntimeException e) {
+      progress.fail(e.getMessage());
+      importMetrics.importFailed(progress, e, 0);
+      throw e;
+    }
+    return progress.getLaunchUuid();
+  }
+
+  private LaunchImportRQ getLaunchImportRQ(Map<String, Object> params) {
+    return Optional.ofNullable(params.get(ENTITY_PARAM))
+        .map(it -> requestEntityConverter.getEntity(ENTITY_PARAM, params, LaunchImportRQ.class))
+        .orElseGet(LaunchImportRQ::new);
+  }
+
   private void validate(MultipartFile file) {
     expect(file.getOriginalFilename(), Objects::nonNull).verify(INCORRECT_REQUEST,
         "File name should be not empty."
     );
-    expect(file.getOriginalFilename(), it -> it.endsWith(ZIP_EXTENSION) || it.endsWith(XML_EXTENSION))
-        .verify(INCORRECT_REQUEST, "Should be a zip archive or an xml file " + file.getOriginalFilename()
+    expect(file.getOriginalFilename(), it -> SUPPORTED_EXTENSIONS.stream().anyMatch(it::endsWith))
+        .verify(INCORRECT_REQUEST, "Should be a zip, tar, tar.gz or tgz archive or an xml or xml.gz file "
+            + file.getOriginalFilename()
         );
-    expect(file.getSize(), size -> size <= MAX_FILE_SIZE).verify(INCORRECT_REQUEST, "File size is more than 32 Mb.");
+    long maxFileSize = importProperties.getMaxFileSize();
+    expect(file.getSize(), size -> size <= maxFileSize).verify(INCORRECT_REQUEST,
+        "File size is more than " + FileUtils.byteCountToDisplaySize(maxFileSize) + ".");
+  }
+
+  /*
+   * The import is run by the scheduler as well, so the number of imports is limited, the calling
+   * thread waits for it. The upload is hashed for the deduplication by the import thread too
+   */
+  private LaunchImportRS importSync(ImportStrategy importStrategy, MultipartFile file,
+      String projectName, LaunchImportRQ rq, ImportProgress progress) {
+    long start = System.nanoTime();
+    AtomicReference<ImportProgress> recentImport = new AtomicReference<>();
+    RuntimeException failure;
+    try {
+      CompletableFuture<Void> completion = importSchedulerSupplier.get().reserve(projectName)
+          .execute(() -> {
+            Hasher contentHasher = importProperties.isDedup() ? hashContent(file) : null;
+            registerImport(contentHasher, file, rq, progress).ifPresentOrElse(recentImport::set,
+                () -> runImport(importStrategy, file, projectName, rq, progress));
+          });
+      Uninterruptibles.getUninterruptibly(completion);
+      if (recentImport.get() != null) {
+        return prepareDuplicateResponse(recentImport.get());
+      }
+      LaunchImportRS response = prepareLaunchImportResponse(progress.getLaunchUuid());
+      response.setSummary(prepareImportSummary(progress, System.nanoTime() - start));
+      return response;
+    } catch (ExecutionException e) {
+      failure = e.getCause() instanceof RuntimeException runtimeException ? runtimeException
+          : new ReportPortalException(IMPORT_FILE_ERROR, e.getCause().getMessage());
+    } catch (RuntimeException e) {
+      failure = e;
+    }
+    // rejected or dropped on shutdown before the import is started
+    if (progress.getState() == ImportProgress.State.QUEUED) {
+      progress.fail(failure.getMessage());
+      importMetrics.importFailed(progress, failure, 0);
+    }
+    throw failure;
+  }
+
+  /*
+   * The launch is started in the calling thread, so its uuid is valid once it's returned.
+   * The uploaded file is copied beforehand, as it's removed when the request is completed,
+   * and it's hashed for the deduplication while it's copied
+   */
+  private LaunchImportRS importAsync(ImportStrategy importStrategy, MultipartFile file,
+      String projectName, LaunchImportRQ rq, ImportProgress progress) {
+    ImportScheduler.Reservation reservation = importSchedulerSupplier.get().reserve(projectName);
+    // the reservation is handed over to the scheduler along with the task
+    boolean reserved = true;
+    FileSystemMultipartFile spooledFile = null;
+    try {
+      long spoolStart = System.nanoTime();
+      Hasher contentHasher = importProperties.isDedup() ? Hashing.sha256().newHasher() : null;
+      spooledFile = spool(file, contentHasher);
+      progress.uploadTransferred(System.nanoTime() - spoolStart);
+      Optional<ImportProgress> recentImport = registerImport(contentHasher, file, rq, progress);
+      if (recentImport.isPresent()) {
+        reserved = false;
+        reservation.cancel();
+        deleteQuietly(spooledFile.getPath());
+        return prepareDuplicateResponse(recentImport.get());
+      }
+      importStrategy.startLaunch(spooledFile, projectName, rq, progress);
+      FileSystemMultipartFile importFile = spooledFile;
+      reserved = false;
+      reservation.execute(() -> {
+        try {
+          runImport(importStrategy, importFile, projectName, rq, progress);
+        } catch (RuntimeException e) {
+          LOGGER.error("Import of launch {} failed", progress.getLaunchUuid(), e);
+        } finally {
+          deleteQuietly(importFile.getPath());
+        }
+      });
+      return prepareLaunchImportResponse(progress.getLaunchUuid());
+    } catch (RuntimeException e) {
+      if (reserved) {
+        reservation.cancel();
+      }
+      Optional.ofNullable(spooledFile).ifPresent(it -> deleteQuietly(it.getPath()));
+      progress.fail(e.getMessage());
+      importMetrics.importFailed(progress, e, 0);
+      throw e;
+    }
+  }
+
+  private void runImport(ImportStrategy importStrategy, MultipartFile file, String projectName,
+      LaunchImportRQ rq, ImportProgress progress) {
+    progress.start();
+    LongTaskTimer.Sample activeImport = importMetrics.importStarted(progress);
+    long start = System.nanoTime();
+    try {
+      importStrategy.importLaunch(file, projectName, rq, progress);
+      progress.finish();
+      importMetrics.importFinished(progress, file.getSize(), System.nanoTime() - start);
+    } catch (RuntimeException e) {
+      progress.fail(e.getMessage());
+      importMetrics.importFailed(progress, e, System.nanoTime() - start);
+      throw e;
+    } finally {
+      activeImport.stop();
+    }
+  }
+
+  /*
+   * The content is passed to the hasher while it's copied, if there is one
+   */
+  private FileSystemMultipartFile spool(MultipartFile file, Hasher contentHasher) {
+    try {
+      Path path = Files.createTempFile("junit-import-",
+          "." + FilenameUtils.getExtension(file.getOriginalFilename()));
+      try {
+        if (contentHasher == null) {
+          file.transferTo(path.toFile());
+        } else {
+          try (InputStream inputStream = file.getInputStream();
+              OutputStream outputStream = new TeeOutputStream(Files.newOutputStream(path),
+                  Funnels.asOutputStream(contentHasher))) {
+            inputStream.transferTo(outputStream);
+          }
+        }
+      } catch (IOException | RuntimeException e) {
+        deleteQuietly(path);
+        throw e;
+      }
+      return new FileSystemMultipartFile(path, file.getName(), file.getOriginalFilename(),
+          file.getContentType());
+    } catch (IOException e) {
+      throw new ReportPortalException("Error during transferring multipart file.", e);
+    }
+  }
+
+  private Hasher hashContent(MultipartFile file) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    try (InputStream inputStream = file.getInputStream()) {
+      ByteStreams.copy(inputStream, Funnels.asOutputStream(hasher));
+    } catch (IOException e) {
+      throw new ReportPortalException(IMPORT_FILE_ERROR, e.getMessage());
+    }
+    return hasher;
+  }
+
+  /*
+   * Registers the import unless the deduplication is enabled and the project has a recent import
+   * of the same content
+   */
+  private Optional<ImportProgress> registerImport(Hasher contentHasher, MultipartFile file,
+      LaunchImportRQ rq, ImportProgress progress) {
+    if (contentHasher != null) {
+      Optional<ImportProgress> recentImport = importDeduplicator.register(
+          contentHash(contentHasher, file, rq), progress);
+      if (recentImport.isPresent()) {
+        LOGGER.info("File {} was imported recently as launch {}, the import is skipped",
+            file.getOriginalFilename(), recentImport.get().getLaunchUuid());
+        return recentImport;
+      }
+    }
+    progressRegistry.register(progress);
+    return Optional.empty();
   }
 
-  private StartLaunchRS prepareLaunchImportResponse(String uuid) {
-    var data = new StartLaunchRS();
+  /*
+   * Parameters of the import are hashed along with the content, as the same file imported with
+   * another launch name or attributes is another launch
+   */
+  private String contentHash(Hasher hasher, MultipartFile file, LaunchImportRQ rq) {
+    Stream.concat(
+            Stream.of(file.getOriginalFilename(), rq.getName(), rq.getDescription(), rq.getMode(),
+                rq.getStartTime()).map(String::valueOf),
+            Optional.ofNullable(rq.getAttributes()).orElse(Collections.emptySet()).stream()
+                .map(it -> it.getKey() + ":" + it.getValue() + ":" + it.isSystem())
+                .sorted())
+        .forEach(it -> hasher.putInt(it.length()).putString(it, StandardCharsets.UTF_8));
+    return hasher.hash().toString();
+  }
+
+  private void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      LOGGER.warn("Unable to delete temporary file {}", path, e);
+    }
+  }
+
+  private LaunchImportRS prepareLaunchImportResponse(String uuid) {
+    var data = new LaunchImportRS();
     data.setId(uuid);
     return data;
   }
+
+  private LaunchImportRS prepareDuplicateResponse(ImportProgress recentImport) {
+    LaunchImportRS response = prepareLaunchImportResponse(recentImport.getLaunchUuid());
+    response.setDuplicate(true);
+    return response;
+  }
+
+  private ImportSummary prepareImportSummary(ImportProgress progress, long totalNanos) {
+    ImportSummary summary = new ImportSummary();
+    summary.setSuites(progress.getItems() - progress.getTestcases());
+    summary.setTestcases(progress.getTestcases());
+    summary.setLogs(progress.getLogs());
+    summary.setBytes(progress.getBytes());
+    summary.setEntries(progress.getFiles());
+    summary.setSkippedEntries(progress.getSkippedEntries());
+    summary.setUploadTime(TimeUnit.NANOSECONDS.toMillis(progress.getUploadNanos()));
+    summary.setParseTime(TimeUnit.NANOSECONDS.toMillis(progress.getParseNanos()));
+    summary.setPublishTime(TimeUnit.NANOSECONDS.toMillis(progress.getPublishNanos()));
+    summary.setFinalizeTime(TimeUnit.NANOSECONDS.toMillis(progress.getFinalizeNanos()));
+    summary.setTotalTime(TimeUnit.NANOSECONDS.toMillis(totalNanos));
+    return summary;
+  }
 }
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.config;
+
+import static org.apache.commons.io.FileUtils.ONE_GB;
+import static org.apache.commons.io.FileUtils.ONE_MB;
+
+import com.epam.reportportal.extension.importing.service.IdAllocatorType;
+import com.epam.reportportal.extension.importing.service.ImportThreadType;
+import com.epam.reportportal.extension.importing.service.XunitParserType;
+import java.nio.file.Path;
+import org.springframework.core.env.PropertyResolver;
+
+/**
+ * Tunable settings of the import pipeline. Values are resolved from the host environment
+ * using the {@value #PREFIX} prefix, e.g. {@code rp.plugins.junit.parser=stax} or the
+ * {@code RP_PLUGINS_JUNIT_PARSER} environment variable.
+ */
+public class ImportProperties {
+
+  public static final String PREFIX = "rp.plugins.junit.";
+
+  private XunitParserType parserType = XunitParserType.STAX;
+
+  // identifiers of imported launches and items
+  private IdAllocatorType idAllocatorType = IdAllocatorType.UUID_V7;
+
+  // reports are scanned for the launch start time and the number of items before the import
+  private boolean preScan;
+
+  // max size of an uploaded file in bytes, advertised to the UI as well
+  private long maxFileSize = 32 * ONE_MB;
+
+  // max characters of a single log block kept in memory, the rest is streamed to a file
+  private int logInMemoryLimit = 1024 * 1024;
+
+  // characters of an oversized log block sent inline next to the attached file
+  private int logPreviewLength = 4 * 1024;
+
+  // events published to the host in a single batch, 1 disables batching
+  private int publishBatchSize = 1;
+
+  // estimated payload bytes that trigger publishing of a batch before it's full
+  private long publishBatchBytes = 8 * 1024 * 1024;
+
+  // events buffered between the parsing and the publishing thread of a report, 0 publishes
+  // events in the parsing thread
+  private int publishPipelineCapacity;
+
+  // threads publishing events of the reports being parsed, a report beyond them waits for a free
+  // one once its buffer is full
+  private int publishPipelineThreads = 8;
+
+  // max threads parsing entries of a single archive, 1 disables parallel parsing
+  private int parseParallelism = 1;
+
+  // uncompressed bytes of archive entries per parsing thread
+  private long parseBytesPerThread = 4 * 1024 * 1024;
+
+  // nesting levels of zip and gzip archives inside an uploaded zip, deeper archives fail the import
+  private int archiveMaxDepth = 3;
+
+  // max uncompressed bytes of an uploaded zip, tar or gzip, including nested archives
+  private long archiveMaxUncompressedSize = 4 * ONE_GB;
+
+  // threads running imports and parsing entries of archives
+  private ImportThreadType threadType = ImportThreadType.PLATFORM;
+
+  // threads running imports, both synchronous and asynchronous ones
+  private int schedulerThreads = 4;
+
+  // threads running imports of a single project
+  private int schedulerProjectThreads = 2;
+
+  // imports waiting for a free thread, the rest are rejected
+  private int schedulerQueueCapacity = 32;
+
+  // imports of a single project waiting for a free thread, the rest of the project's are rejected
+  private int schedulerProjectQueueCapacity = 8;
+
+  // how long the state of a completed import is available for the status command
+  private long statusRetentionMinutes = 60;
+
+  // a repeated upload of the same file returns the launch of a recent import instead of a new one
+  private boolean dedup;
+
+  // how long an import is recent for the deduplication
+  private long dedupTtlMinutes = 10;
+
+  // recent imports remembered for the deduplication, the oldest ones are evicted
+  private int dedupMaxEntries = 1024;
+
+  // directory chunks of uploads are appended to
+  private String uploadSpoolDir = Path.of(System.getProperty("java.io.tmpdir"),
+      "junit-import-uploads").toString();
+
+  // uploads without chunks for this time are aborted
+  private long uploadIdleTimeoutMinutes = 10;
+
+  // threads running imports of chunked uploads, separate from the scheduler threads as an import
+  // of an upload waits for its chunks
+  private int uploadImportThreads = 4;
+
+  // imports of chunked uploads waiting for a free thread, the rest are rejected
+  private int uploadImportQueueCapacity = 16;
+
+  public static ImportProperties from(PropertyResolver resolver) {
+    ImportProperties properties = new ImportProperties();
+    properties.setParserType(XunitParserType.fromString(
+        resolver.getProperty(PREFIX + "parser", properties.getParserType().name())));
+    properties.setIdAllocatorType(IdAllocatorType.fromString(
+        resolver.getProperty(PREFIX + "id-allocator", properties.getIdAllocatorType().name())));
+    properties.setPreScan(resolver.getProperty(PREFIX + "pre-scan", Boolean.class,
+        properties.isPreScan()));
+    properties.setMaxFileSize(resolver.getProperty(PREFIX + "max-file-size", Long.class,
+        properties.getMaxFileSize()));
+    properties.setLogInMemoryLimit(resolver.getProperty(PREFIX + "log.memory-limit",
+        Integer.class, properties.getLogInMemoryLimit()));
+    properties.setLogPreviewLength(resolver.getProperty(PREFIX + "log.preview-length",
+        Integer.class, properties.getLogPreviewLength()));
+    properties.setPublishBatchSize(resolver.getProperty(PREFIX + "publish.batch-size",
+        Integer.class, properties.getPublishBatchSize()));
+    properties.setPublishBatchBytes(resolver.getProperty(PREFIX + "publish.batch-bytes",
+        Long.class, properties.getPublishBatchBytes()));
+    properties.setPublishPipelineCapacity(resolver.getProperty(
+        PREFIX + "publish.pipeline-capacity", Integer.class,
+        properties.getPublishPipelineCapacity()));
+    properties.setPublishPipelineThreads(resolver.getProperty(
+        PREFIX + "publish.pipeline-threads", Integer.class,
+        properties.getPublishPipelineThreads()));
+    properties.setParseParallelism(resolver.getProperty(PREFIX + "parse.parallelism",
+        Integer.class, properties.getParseParallelism()));
+    properties.setParseBytesPerThread(resolver.getProperty(PREFIX + "parse.bytes-per-thread",
+        Long.class, properties.getParseBytesPerThread()));
+    properties.setArchiveMaxDepth(resolver.getProperty(PREFIX + "archive.max-depth",
+        Integer.class, properties.getArchiveMaxDepth()));
+    properties.setArchiveMaxUncompressedSize(resolver.getProperty(
+        PREFIX + "archive.max-uncompressed-size", Long.class,
+        properties.getArchiveMaxUncompressedSize()));
+    properties.setThreadType(ImportThreadType.fromString(
+        resolver.getProperty(PREFIX + "thread-type", properties.getThreadType().name())));
+    properties.setSchedulerThreads(resolver.getProperty(PREFIX + "scheduler.threads",
+        Integer.class, properties.getSchedulerThreads()));
+    properties.setSchedulerProjectThreads(resolver.getProperty(
+        PREFIX + "scheduler.project-threads", Integer.class,
+        properties.getSchedulerProjectThreads()));
+    properties.setSchedulerQueueCapacity(resolver.getProperty(
+        PREFIX + "scheduler.queue-capacity", Integer.class,
+        properties.getSchedulerQueueCapacity()));
+    properties.setSchedulerProjectQueueCapacity(resolver.getProperty(
+        PREFIX + "scheduler.project-queue-capacity", Integer.class,
+        properties.getSchedulerProjectQueueCapacity()));
+    properties.setStatusRetentionMinutes(resolver.getProperty(
+        PREFIX + "status.retention-minutes", Long.class,
+        properties.getStatusRetentionMinutes()));
+    properties.setDedup(resolver.getProperty(PREFIX + "dedup", Boolean.class,
+        properties.isDedup()));
+    properties.setDedupTtlMinutes(resolver.getProperty(PREFIX + "dedup.ttl-minutes",
+        Long.class, properties.getDedupTtlMinutes()));
+    properties.setDedupMaxEntries(resolver.getProperty(PREFIX + "dedup.max-entries",
+        Integer.class, properties.getDedupMaxEntries()));
+    properties.setUploadSpoolDir(resolver.getProperty(PREFIX + "upload.spool-dir",
+        properties.getUploadSpoolDir()));
+    properties.setUploadIdleTimeoutMinutes(resolver.getProperty(
+        PREFIX + "upload.idle-timeout-minutes", Long.class,
+        properties.getUploadIdleTimeoutMinutes()));
+    properties.setUploadImportThreads(resolver.getProperty(PREFIX + "upload.import-threads",
+        Integer.class, properties.getUploadImportThreads()));
+    properties.setUploadImportQueueCapacity(resolver.getProperty(
+        PREFIX + "upload.import-queue-capacity", Integer.class,
+        properties.getUploadImportQueueCapacity()));
+    return properties;
+  }
+
+  public XunitParserType getParserType() {
+    return parserType;
+  }
+
+  public void setParserType(XunitParserType parserType) {
+    this.parserType = parserType;
+  }
+
+  public IdAllocatorType getIdAllocatorType() {
+    return idAllocatorType;
+  }
+
+  public void setIdAllocatorType(IdAllocatorType idAllocatorType) {
+    this.idAllocatorType = idAllocatorType;
+  }
+
+  public boolean isPreScan() {
+    return preScan;
+  }
+
+  public void setPreScan(boolean preScan) {
+    this.preScan = preScan;
+  }
+
+  public long getMaxFileSize() {
+    return maxFileSize;
+  }
+
+  public void setMaxFileSize(long maxFileSize) {
+    this.maxFileSize = maxFileSize;
+  }
+
+  public int getLogInMemoryLimit() {
+    return logInMemoryLimit;
+  }
+
+  public void setLogInMemoryLimit(int logInMemoryLimit) {
+    this.logInMemoryLimit = logInMemoryLimit;
+  }
+
+  public int getLogPreviewLength() {
+    return logPreviewLength;
+  }
+
+  public void setLogPreviewLength(int logPreviewLength) {
+    this.logPreviewLength = logPreviewLength;
+  }
+
+  public int getPublishBatchSize() {
+    return publishBatchSize;
+  }
+
+  public void setPublishBatchSize(int publishBatchSize) {
+    this.publishBatchSize = publishBatchSize;
+  }
+
+  public long getPublishBatchBytes() {
+    return publishBatchBytes;
+  }
+
+  public void setPublishBatchBytes(long publishBatchBytes) {
+    this.publishBatchBytes = publishBatchBytes;
+  }
+
+  public int getPublishPipelineCapacity() {
+    return publishPipelineCapacity;
+  }
+
+  public void setPublishPipelineCapacity(int publishPipelineCapacity) {
+    this.publishPipelineCapacity = publishPipelineCapacity;
+  }
+
+  public int getPublishPipelineThreads() {
+    return publishPipelineThreads;
+  }
+
+  public void setPublishPipelineThreads(int publishPipelineThreads) {
+    this.publishPipelineThreads = publishPipelineThreads;
+  }
+
+  public int getParseParallelism() {
+    return parseParallelism;
+  }
+
+  public void setParseParallelism(int parseParallelism) {
+    this.parseParallelism = parseParallelism;
+  }
+
+  public long getParseBytesPerThread() {
+    return parseBytesPerThread;
+  }
+
+  public void setParseBytesPerThread(long parseBytesPerThread) {
+    this.parseBytesPerThread = parseBytesPerThread;
+  }
+
+  public int getArchiveMaxDepth() {
+    return archiveMaxDepth;
+  }
+
+  public void setArchiveMaxDepth(int archiveMaxDepth) {
+    this.archiveMaxDepth = archiveMaxDepth;
+  }
+
+  public long getArchiveMaxUncompressedSize() {
+    return archiveMaxUncompressedSize;
+  }
+
+  public void setArchiveMaxUncompressedSize(long archiveMaxUncompressedSize) {
+    this.archiveMaxUncompressedSize = archiveMaxUncompressedSize;
+  }
+
+  public ImportThreadType getThreadType() {
+    return threadType;
+  }
+
+  public void setThreadType(ImportThreadType threadType) {
+    this.threadType = threadType;
+  }
+
+  public int getSchedulerThreads() {
+    return schedulerThreads;
+  }
+
+  public void setSchedulerThreads(int schedulerThreads) {
+    this.schedulerThreads = schedulerThreads;
+  }
+
+  public int getSchedulerProjectThreads() {
+    return schedulerProjectThreads;
+  }
+
+  public void setSchedulerProjectThreads(int schedulerProjectThreads) {
+    this.schedulerProjectThreads = schedulerProjectThreads;
+  }
+
+  public int getSchedulerQueueCapacity() {
+    return schedulerQueueCapacity;
+  }
+
+  public void setSchedulerQueueCapacity(int schedulerQueueCapacity) {
+    this.schedulerQueueCapacity = schedulerQueueCapacity;
+  }
+
+  public int getSchedulerProjectQueueCapacity() {
+    return schedulerProjectQueueCapacity;
+  }
+
+  public void setSchedulerProjectQueueCapacity(int schedulerProjectQueueCapacity) {
+    this.schedulerProjectQueueCapacity = schedulerProjectQueueCapacity;
+  }
+
+  public long getStatusRetentionMinutes() {
+    return statusRetentionMinutes;
+  }
+
+  public void setStatusRetentionMinutes(long statusRetentionMinutes) {
+    this.statusRetentionMinutes = statusRetentionMinutes;
+  }
+
+  public boolean isDedup() {
+    return dedup;
+  }
+
+  public void setDedup(boolean dedup) {
+    this.dedup = dedup;
+  }
+
+  public long getDedupTtlMinutes() {
+    return dedupTtlMinutes;
+  }
+
+  public void setDedupTtlMinutes(long dedupTtlMinutes) {
+    this.dedupTtlMinutes = dedupTtlMinutes;
+  }
+
+  public int getDedupMaxEntries() {
+    return dedupMaxEntries;
+  }
+
+  public void setDedupMaxEntries(int dedupMaxEntries) {
+    this.dedupMaxEntries = dedupMaxEntries;
+  }
+
+  public String getUploadSpoolDir() {
+    return uploadSpoolDir;
+  }
+
+  public void setUploadSpoolDir(String uploadSpoolDir) {
+    this.uploadSpoolDir = uploadSpoolDir;
+  }
+
+  public long getUploadIdleTimeoutMinutes() {
+    return uploadIdleTimeoutMinutes;
+  }
+
+  public void setUploadIdleTimeoutMinutes(long uploadIdleTimeoutMinutes) {
+    this.uploadIdleTimeoutMinutes = uploadIdleTimeoutMinutes;
+  }
+
+  public int getUploadImportThreads() {
+    return uploadImportThreads;
+  }
+
+  public void setUploadImportThreads(int uploadImportThreads) {
+    this.uploadImportThreads = uploadImportThreads;
+  }
+
+  public int getUploadImportQueueCapacity() {
+    return uploadImportQueueCapacity;
+  }
+
+  public void setUploadImportQueueCapacity(int uploadImportQueueCapacity) {
+    this.uploadImportQueueCapacity = uploadImportQueueCapacity;
+  }
+}
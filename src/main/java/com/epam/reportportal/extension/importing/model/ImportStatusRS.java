@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * State of a launch import.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportStatusRS {
+
+  @JsonProperty("id")
+  private String id;
+
+  @JsonProperty("state")
+  private String state;
+
+  @JsonProperty("files")
+  private long files;
+
+  @JsonProperty("items")
+  private long items;
+
+  @JsonProperty("expectedItems")
+  private Long expectedItems;
+
+  @JsonProperty("logs")
+  private long logs;
+
+  @JsonProperty("message")
+  private String message;
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getState() {
+    return state;
+  }
+
+  public void setState(String state) {
+    this.state = state;
+  }
+
+  public long getFiles() {
+    return files;
+  }
+
+  public void setFiles(long files) {
+    this.files = files;
+  }
+
+  public long getItems() {
+    return items;
+  }
+
+  public void setItems(long items) {
+    this.items = items;
+  }
+
+  public Long getExpectedItems() {
+    return expectedItems;
+  }
+
+  public void setExpectedItems(Long expectedItems) {
+    this.expectedItems = expectedItems;
+  }
+
+  public long getLogs() {
+    return logs;
+  }
+
+  public void setLogs(long logs) {
+    this.logs = logs;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  public void setMessage(String message) {
+    this.message = message;
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Summary of a completed launch import. Times are in milliseconds. Upload, finalize and total
+ * times are wall-clock ones. Parse and publish times are summed over the reports, so they exceed
+ * the wall-clock time when entries of an archive are parsed by several threads, or when events
+ * are published while the report is still being parsed. Parse time excludes the time the parsing
+ * thread spent publishing or waiting for the publishing thread.
+ */
+public class ImportSummary {
+
+  @JsonProperty("suites")
+  private long suites;
+
+  @JsonProperty("testcases")
+  private long testcases;
+
+  @JsonProperty("logs")
+  private long logs;
+
+  @JsonProperty("bytes")
+  private long bytes;
+
+  @JsonProperty("entries")
+  private long entries;
+
+  @JsonProperty("skippedEntries")
+  private long skippedEntries;
+
+  @JsonProperty("uploadTime")
+  private long uploadTime;
+
+  @JsonProperty("parseTime")
+  private long parseTime;
+
+  @JsonProperty("publishTime")
+  private long publishTime;
+
+  @JsonProperty("finalizeTime")
+  private long finalizeTime;
+
+  @JsonProperty("totalTime")
+  private long totalTime;
+
+  public long getSuites() {
+    return suites;
+  }
+
+  public void setSuites(long suites) {
+    this.suites = suites;
+  }
+
+  public long getTestcases() {
+    return testcases;
+  }
+
+  public void setTestcases(long testcases) {
+    this.testcases = testcases;
+  }
+
+  public long getLogs() {
+    return logs;
+  }
+
+  public void setLogs(long logs) {
+    this.logs = logs;
+  }
+
+  public long getBytes() {
+    return bytes;
+  }
+
+  public void setBytes(long bytes) {
+    this.bytes = bytes;
+  }
+
+  public long getEntries() {
+    return entries;
+  }
+
+  public void setEntries(long entries) {
+    this.entries = entries;
+  }
+
+  public long getSkippedEntries() {
+    return skippedEntries;
+  }
+
+  public void setSkippedEntries(long skippedEntries) {
+    this.skippedEntries = skippedEntries;
+  }
+
+  public long getUploadTime() {
+    return uploadTime;
+  }
+
+  public void setUploadTime(long uploadTime) {
+    this.uploadTime = uploadTime;
+  }
+
+  public long getParseTime() {
+    return parseTime;
+  }
+
+  public void setParseTime(long parseTime) {
+    this.parseTime = parseTime;
+  }
+
+  public long getPublishTime() {
+    return publishTime;
+  }
+
+  public void setPublishTime(long publishTime) {
+    this.publishTime = publishTime;
+  }
+
+  public long getFinalizeTime() {
+    return finalizeTime;
+  }
+
+  public void setFinalizeTime(long finalizeTime) {
+    this.finalizeTime = finalizeTime;
+  }
+
+  public long getTotalTime() {
+    return totalTime;
+  }
+
+  public void setTotalTime(long totalTime) {
+    this.totalTime = totalTime;
+  }
+}
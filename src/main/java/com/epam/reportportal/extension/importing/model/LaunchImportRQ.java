@@ -26,6 +26,9 @@ public class LaunchImportRQ {
   @JsonProperty("mode")
   private Mode mode;
 
+  @JsonProperty("async")
+  private boolean async;
+
   public String getName() {
     return name;
   }
@@ -46,6 +49,14 @@ public class LaunchImportRQ {
     return mode;
   }
 
+  public boolean isAsync() {
+    return async;
+  }
+
+  public void setAsync(boolean async) {
+    this.async = async;
+  }
+
   public void setStartTime(Instant startTime) {
     this.startTime = startTime;
   }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.model;
+
+import com.epam.reportportal.reporting.StartLaunchRS;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Launch import response, the summary is returned for synchronous imports only. A duplicate
+ * upload isn't imported, the launch of the recent import of the same file is returned instead.
+ */
+public class LaunchImportRS extends StartLaunchRS {
+
+  @JsonProperty("summary")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private ImportSummary summary;
+
+  @JsonProperty("duplicate")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Boolean duplicate;
+
+  public ImportSummary getSummary() {
+    return summary;
+  }
+
+  public void setSummary(ImportSummary summary) {
+    this.summary = summary;
+  }
+
+  public Boolean getDuplicate() {
+    return duplicate;
+  }
+
+  public void setDuplicate(Boolean duplicate) {
+    this.duplicate = duplicate;
+  }
+}
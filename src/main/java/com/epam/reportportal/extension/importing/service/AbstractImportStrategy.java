@@ -21,21 +21,18 @@ import static java.util.Optional.ofNullable;
 import com.epam.reportportal.extension.importing.model.LaunchImportRQ;
 import com.epam.reportportal.infrastructure.events.FinishLaunchRqEvent;
 import com.epam.reportportal.infrastructure.events.StartLaunchRqEvent;
-import com.epam.reportportal.infrastructure.persistence.dao.LaunchRepository;
-import com.epam.reportportal.infrastructure.persistence.entity.enums.StatusEnum;
-import com.epam.reportportal.infrastructure.persistence.entity.launch.Launch;
-import com.epam.reportportal.infrastructure.rules.exception.ErrorType;
-import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
 import com.epam.reportportal.reporting.FinishExecutionRQ;
 import com.epam.reportportal.reporting.ItemAttributesRQ;
 import com.epam.reportportal.reporting.Mode;
 import com.epam.reportportal.reporting.StartLaunchRQ;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -46,15 +43,17 @@ public abstract class AbstractImportStrategy implements ImportStrategy {
 
   public static final String SKIPPED_IS_NOT_ISSUE = "skippedIsNotIssue";
 
+  private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
   private final ApplicationEventPublisher eventPublisher;
 
-  private final LaunchRepository launchRepository;
+  private final LaunchUpdater launchUpdater;
 
 
   public AbstractImportStrategy(ApplicationEventPublisher eventPublisher,
-      LaunchRepository launchRepository) {
+      LaunchUpdater launchUpdater) {
     this.eventPublisher = eventPublisher;
-    this.launchRepository = launchRepository;
+    this.launchUpdater = launchUpdater;
   }
 
   protected ParseResults processResults(List<ParseResults> parseResults) {
@@ -66,24 +65,60 @@ public abstract class AbstractImportStrategy implements ImportStrategy {
     return results;
   }
 
-  protected String startLaunch(String launchName, String projectName, LaunchImportRQ rq) {
-    String launchUuid = UUID.randomUUID().toString();
+  @Override
+  public void startLaunch(MultipartFile file, String projectName, LaunchImportRQ rq,
+      ImportProgress progress) {
+    if (progress.isLaunchStarted()) {
+      return;
+    }
+    PreScanResults scanResults = preScan(file);
+    Instant startTime = ofNullable(rq.getStartTime())
+        .or(() -> ofNullable(scanResults).map(PreScanResults::getStartTime))
+        .orElse(Instant.EPOCH.minusSeconds(0));
+    if (scanResults != null) {
+      progress.expectItems(scanResults.getItems());
+    }
     StartLaunchRQ startLaunchRQ = new StartLaunchRQ();
-    startLaunchRQ.setUuid(launchUuid);
-    startLaunchRQ.setStartTime(ofNullable(rq.getStartTime()).orElse(Instant.EPOCH.minusSeconds(0)));
-    startLaunchRQ.setName(ofNullable(rq.getName()).orElse(launchName));
+    startLaunchRQ.setUuid(progress.getLaunchUuid());
+    startLaunchRQ.setStartTime(startTime);
+    startLaunchRQ.setName(ofNullable(rq.getName()).orElse(getLaunchName(file, getExtension())));
     ofNullable(rq.getDescription()).ifPresent(startLaunchRQ::setDescription);
     startLaunchRQ.setMode(ofNullable(rq.getMode()).orElse(Mode.DEFAULT));
     startLaunchRQ.setAttributes(ofNullable(rq.getAttributes()).orElse(new HashSet<>()));
     eventPublisher.publishEvent(new StartLaunchRqEvent(projectName, startLaunchRQ));
-    return launchUuid;
+    progress.launchStarted(startTime);
   }
 
-  protected void finishLaunch(String launchUuid, String projectName, ParseResults results) {
+  @Override
+  public String getName() {
+    return getExtension();
+  }
+
+  /**
+   * @return extension of the imported files
+   */
+  protected abstract String getExtension();
+
+  /**
+   * Scans the reports of the file before the launch is started, if it's enabled.
+   *
+   * @param file imported file
+   * @return launch metadata of the reports, {@code null} if the scan is disabled
+   * @see ReportPreScanner
+   */
+  protected abstract PreScanResults preScan(MultipartFile file);
+
+  /*
+   * finishes the launch and updates its start time with the actual one of the reports
+   */
+  protected void finishLaunch(ImportProgress progress, String projectName, ParseResults results) {
+    long start = System.nanoTime();
     FinishExecutionRQ finishExecutionRQ = new FinishExecutionRQ();
     finishExecutionRQ.setEndTime(results.getEndTime());
     eventPublisher.publishEvent(
-        new FinishLaunchRqEvent(projectName, launchUuid, finishExecutionRQ));
+        new FinishLaunchRqEvent(projectName, progress.getLaunchUuid(), finishExecutionRQ));
+    updateStartTime(progress, results.getStartTime());
+    progress.launchFinalized(System.nanoTime() - start);
   }
 
   protected Boolean isSkippedNotIssue(Set<ItemAttributesRQ> attributes) {
@@ -112,19 +147,17 @@ public abstract class AbstractImportStrategy implements ImportStrategy {
    * the statistics
    */
   protected void updateBrokenLaunch(String launchUuid) {
-    Launch launch = launchRepository.findByUuid(launchUuid)
-        .orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, launchUuid));
-    launch.setStartTime(Instant.now());
-    launch.setStatus(StatusEnum.INTERRUPTED);
-    launchRepository.save(launch);
+    launchUpdater.interrupt(launchUuid, Instant.now());
   }
 
 
-  protected void updateStartTime(String launchUuid, Instant startTime) {
-    Launch launch = launchRepository.findByUuid(launchUuid)
-        .orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, launchUuid));
-    launch.setStartTime(startTime);
-    launchRepository.save(launch);
+  /*
+   * the update is skipped if the launch was started with the actual start time already
+   */
+  private void updateStartTime(ImportProgress progress, Instant startTime) {
+    if (!startTime.equals(progress.getLaunchStartTime())) {
+      launchUpdater.updateStartTime(progress.getLaunchUuid(), startTime);
+    }
   }
 
   protected String getLaunchName(MultipartFile file, String extension) {
@@ -132,4 +165,21 @@ public abstract class AbstractImportStrategy implements ImportStrategy {
         .substring(0, file.getOriginalFilename().indexOf("." + extension));
   }
 
+  /**
+   * Wraps the stream into a gzip decompressing one, the stream is closed if it isn't gzip
+   * compressed.
+   *
+   * @param inputStream gzip compressed stream
+   * @return decompressed stream
+   * @throws IOException if the stream can't be read or isn't gzip compressed
+   */
+  protected static InputStream gunzip(InputStream inputStream) throws IOException {
+    try {
+      return new GZIPInputStream(inputStream, GZIP_BUFFER_SIZE);
+    } catch (IOException | RuntimeException e) {
+      inputStream.close();
+      throw e;
+    }
+  }
+
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link ApplicationEventPublisher} that collects events into batches limited by the number of
+ * events and by the estimated payload size, and hands each batch to a {@link BatchExecutor}.
+ * Events are published in the order they were received, so a parent item is always started
+ * before its children. Not thread-safe, an instance is supposed to be used for a single
+ * document.
+ */
+public class BatchingEventPublisher implements ApplicationEventPublisher {
+
+  // estimated size of an event without a log message
+  private static final long EVENT_SIZE = 512;
+
+  private final ApplicationEventPublisher delegate;
+  private final BatchExecutor batchExecutor;
+  private final int maxEvents;
+  private final long maxBytes;
+  private final List<Object> events;
+
+  private long bytes;
+
+  public BatchingEventPublisher(ApplicationEventPublisher delegate, BatchExecutor batchExecutor,
+      int maxEvents, long maxBytes) {
+    this.delegate = delegate;
+    this.batchExecutor = batchExecutor;
+    this.maxEvents = maxEvents;
+    this.maxBytes = maxBytes;
+    this.events = new ArrayList<>(maxEvents);
+  }
+
+  /**
+   * Publishes event through the given publisher, passing the payload size to it if it is a
+   * {@link BatchingEventPublisher} or a {@link PipelinedEventPublisher} in front of one.
+   *
+   * @param publisher   publisher
+   * @param event       event
+   * @param payloadSize size of the event payload, e.g. log message length
+   */
+  public static void publish(ApplicationEventPublisher publisher, Object event,
+      long payloadSize) {
+    if (publisher instanceof BatchingEventPublisher batchingPublisher) {
+      batchingPublisher.publishEvent(event, payloadSize);
+    } else if (publisher instanceof PipelinedEventPublisher pipelinedPublisher) {
+      pipelinedPublisher.publishEvent(event, payloadSize);
+    } else {
+      publisher.publishEvent(event);
+    }
+  }
+
+  @Override
+  public void publishEvent(Object event) {
+    publishEvent(event, 0);
+  }
+
+  public void publishEvent(Object event, long payloadSize) {
+    events.add(event);
+    bytes += EVENT_SIZE + payloadSize;
+    if (events.size() >= maxEvents || bytes >= maxBytes) {
+      flush();
+    }
+  }
+
+  /**
+   * Publishes all the collected events.
+   */
+  public void flush() {
+    if (events.isEmpty()) {
+      return;
+    }
+    try {
+      batchExecutor.execute(() -> events.forEach(delegate::publishEvent));
+    } finally {
+      events.clear();
+      bytes = 0;
+    }
+  }
+
+  /**
+   * Strategy of publishing a batch of events.
+   */
+  @FunctionalInterface
+  public interface BatchExecutor {
+
+    void execute(Runnable batch);
+
+    /**
+     * @return executor that publishes batch events one by one as they are
+     */
+    static BatchExecutor direct() {
+      return Runnable::run;
+    }
+
+    /**
+     * Publishes the whole batch in a single transaction, so the host listeners that join an
+     * existing transaction persist the batch in one commit instead of one per event.
+     *
+     * @param transactionManager host transaction manager
+     * @return transactional executor
+     */
+    static BatchExecutor transactional(PlatformTransactionManager transactionManager) {
+      TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+      return batch -> transactionTemplate.executeWithoutResult(status -> batch.run());
+    }
+  }
+}
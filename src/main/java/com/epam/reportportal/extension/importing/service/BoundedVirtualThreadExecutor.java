@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts a virtual thread per task, the tasks beyond the limit wait for a permit in their own
+ * virtual threads. {@link #shutdownNow()} interrupts them, a task interrupted while waiting is not
+ * run, and it's cancelled if it's a {@link java.util.concurrent.Future}, so the ones waiting
+ * for it are completed. The returned list is always empty.
+ */
+class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+
+  private final ExecutorService executor;
+
+  private final Semaphore permits;
+
+  BoundedVirtualThreadExecutor(String name, int threads) {
+    this.executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name(name + "-", 0).factory());
+    this.permits = new Semaphore(threads);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    executor.execute(() -> {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        ImportThreadType.cancel(command);
+        return;
+      }
+      try {
+        command.run();
+      } finally {
+        permits.release();
+      }
+    });
+  }
+
+  @Override
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    return executor.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return executor.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return executor.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return executor.awaitTermination(timeout, unit);
+  }
+}
@@ -15,6 +15,8 @@
  */
 package com.epam.reportportal.extension.importing.service;
 
+import java.util.List;
+
 /**
  * @author Anton Machulski
  */
@@ -22,4 +24,12 @@ public class FileExtensionConstant {
 
   public static final String ZIP_EXTENSION = "zip";
   public static final String XML_EXTENSION = "xml";
+  public static final String GZ_EXTENSION = "gz";
+  public static final String TAR_EXTENSION = "tar";
+  public static final String TAR_GZ_EXTENSION = "tar.gz";
+  public static final String TGZ_EXTENSION = "tgz";
+
+  // tar.gz files are covered by the gz extension
+  public static final List<String> SUPPORTED_EXTENSIONS = List.of(ZIP_EXTENSION, XML_EXTENSION,
+      GZ_EXTENSION, TAR_EXTENSION, TGZ_EXTENSION);
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.GZ_EXTENSION;
+import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.XML_EXTENSION;
+
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import com.epam.reportportal.extension.importing.service.archive.UncompressedSizeLimit;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Imports a gzip compressed xml report, e.g. {@code TEST-results.xml.gz}. The report is
+ * decompressed on the fly while it's parsed, up to the max uncompressed size of archives.
+ */
+public class GzipImportStrategy extends XmlImportStrategy {
+
+  private final ImportProperties importProperties;
+
+  public GzipImportStrategy(ApplicationEventPublisher eventPublisher,
+      LaunchUpdater launchUpdater, XunitParseService xunitParseService,
+      ImportProperties importProperties) {
+    super(eventPublisher, launchUpdater, xunitParseService);
+    this.importProperties = importProperties;
+  }
+
+  @Override
+  protected InputStream openXmlStream(MultipartFile file) throws IOException {
+    return new UncompressedSizeLimit(importProperties.getArchiveMaxUncompressedSize()).wrap(
+        gunzip(file.getInputStream()));
+  }
+
+  @Override
+  protected String getExtension() {
+    return GZ_EXTENSION;
+  }
+
+  @Override
+  protected String getLaunchName(MultipartFile file, String extension) {
+    String launchName = super.getLaunchName(file, extension);
+    String xmlSuffix = "." + XML_EXTENSION;
+    return launchName.endsWith(xmlSuffix)
+        ? launchName.substring(0, launchName.length() - xmlSuffix.length()) : launchName;
+  }
+}
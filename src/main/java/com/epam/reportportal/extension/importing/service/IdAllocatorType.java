@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Available {@link IdAllocator} strategies.
+ */
+public enum IdAllocatorType {
+
+  /**
+   * Time-ordered version 7 UUIDs, consecutive items land next to each other in the host indexes.
+   */
+  UUID_V7(new UuidV7IdAllocator()),
+
+  /**
+   * Version 4 UUIDs of {@link UUID#randomUUID()}, backed by a shared {@link java.security.SecureRandom}.
+   */
+  RANDOM(() -> UUID.randomUUID().toString());
+
+  private final IdAllocator allocator;
+
+  IdAllocatorType(IdAllocator allocator) {
+    this.allocator = allocator;
+  }
+
+  public IdAllocator getAllocator() {
+    return allocator;
+  }
+
+  public static IdAllocatorType fromString(String type) {
+    return Arrays.stream(values()).filter(it -> it.name().equalsIgnoreCase(type)).findAny()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown id allocator type: " + type));
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Remembers recent imports of a project by the content hash of the uploaded file, so a repeated
+ * upload of the same file returns the launch of the first one instead of importing it again.
+ * Entries expire after the ttl, the oldest ones are evicted once the cache is full. Failed
+ * imports are never returned, a repeated upload imports the file again.
+ */
+public class ImportDeduplicator {
+
+  // insertion ordered, so the head is the oldest entry
+  private final Map<String, Entry> imports = new LinkedHashMap<>();
+
+  private final Duration ttl;
+
+  private final int maxEntries;
+
+  public ImportDeduplicator(Duration ttl, int maxEntries) {
+    this.ttl = ttl;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Registers the import of the content unless the project has a recent one of the same content.
+   *
+   * @param contentHash hash of the uploaded file and the import parameters
+   * @param progress    progress of the new import
+   * @return progress of the recent import of the same content, empty if the new one is registered
+   */
+  public synchronized Optional<ImportProgress> register(String contentHash,
+      ImportProgress progress) {
+    evictExpired();
+    String key = progress.getProjectName() + ":" + contentHash;
+    Entry existing = imports.get(key);
+    if (existing != null && existing.progress.getState() != ImportProgress.State.FAILED) {
+      return Optional.of(existing.progress);
+    }
+    imports.remove(key);
+    imports.put(key, new Entry(progress, Instant.now()));
+    if (imports.size() > maxEntries) {
+      Iterator<Entry> iterator = imports.values().iterator();
+      iterator.next();
+      iterator.remove();
+    }
+    return Optional.empty();
+  }
+
+  private void evictExpired() {
+    Instant expiration = Instant.now().minus(ttl);
+    Iterator<Entry> iterator = imports.values().iterator();
+    while (iterator.hasNext() && iterator.next().registeredAt.isBefore(expiration)) {
+      iterator.remove();
+    }
+  }
+
+  private static class Entry {
+
+    private final ImportProgress progress;
+
+    private final Instant registeredAt;
+
+    Entry(ImportProgress progress, Instant registeredAt) {
+      this.progress = progress;
+      this.registeredAt = registeredAt;
+    }
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters of the import pipeline. All of them are tagged by the import strategy and
+ * the project.
+ */
+public class ImportMetrics {
+
+  private static final String PREFIX = "rp.junit.import";
+
+  private static final String STRATEGY_TAG = "strategy";
+  private static final String PROJECT_TAG = "project";
+  private static final String OUTCOME_TAG = "outcome";
+  private static final String ERROR_TAG = "error";
+
+  private static final String UNKNOWN_ERROR = "UNKNOWN";
+
+  private final MeterRegistry registry;
+
+  public ImportMetrics(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  /**
+   * @return metrics which aren't published anywhere, used when the host has no meter registry
+   */
+  public static ImportMetrics noop() {
+    return new ImportMetrics(new CompositeMeterRegistry());
+  }
+
+  /**
+   * Tracks the import as in flight until the returned sample is stopped.
+   *
+   * @param progress progress of the import
+   * @return sample of the in flight imports timer
+   */
+  public LongTaskTimer.Sample importStarted(ImportProgress progress) {
+    return LongTaskTimer.builder(PREFIX + ".active")
+        .description("Imports in flight")
+        .tags(tags(progress))
+        .register(registry)
+        .start();
+  }
+
+  /**
+   * @param progress      progress of the finished import
+   * @param uploadSize    size of the uploaded file in bytes
+   * @param durationNanos duration of the import
+   */
+  public void importFinished(ImportProgress progress, long uploadSize, long durationNanos) {
+    Tags tags = tags(progress);
+    importTimer(tags.and(OUTCOME_TAG, "success")).record(durationNanos, TimeUnit.NANOSECONDS);
+    DistributionSummary.builder(PREFIX + ".upload.size")
+        .description("Size of the uploaded files")
+        .baseUnit("bytes")
+        .tags(tags)
+        .register(registry)
+        .record(uploadSize);
+    DistributionSummary.builder(PREFIX + ".entries")
+        .description("Reports of an uploaded file, archive entries for archives")
+        .tags(tags)
+        .register(registry)
+        .record(progress.getFiles());
+  }
+
+  /**
+   * @param progress      progress of the failed import
+   * @param error         failure cause
+   * @param durationNanos time spent before the failure
+   */
+  public void importFailed(ImportProgress progress, Exception error, long durationNanos) {
+    Tags tags = tags(progress);
+    importTimer(tags.and(OUTCOME_TAG, "failure")).record(durationNanos, TimeUnit.NANOSECONDS);
+    String errorType = error instanceof ReportPortalException reportPortalException
+        && reportPortalException.getErrorType() != null
+        ? reportPortalException.getErrorType().name() : UNKNOWN_ERROR;
+    Counter.builder(PREFIX + ".failures")
+        .description("Failed imports by error type")
+        .tags(tags.and(ERROR_TAG, errorType))
+        .register(registry)
+        .increment();
+  }
+
+  /**
+   * @param progress     progress of the import the report belongs to
+   * @param bytes        uncompressed size of the report
+   * @param testcases    test cases of the report
+   * @param logBytes     size of the logs of the report
+   * @param parseNanos   time spent on parsing, without publishing
+   * @param publishNanos time spent on publishing of the events to the host, including the
+   *                     transactions of the batches
+   */
+  void reportParsed(ImportProgress progress, long bytes, long testcases, long logBytes,
+      long parseNanos, long publishNanos) {
+    Tags tags = tags(progress);
+    DistributionSummary.builder(PREFIX + ".report.size")
+        .description("Uncompressed size of the parsed reports")
+        .baseUnit("bytes")
+        .tags(tags)
+        .register(registry)
+        .record(bytes);
+    Counter.builder(PREFIX + ".testcases")
+        .description("Imported test cases")
+        .tags(tags)
+        .register(registry)
+        .increment(testcases);
+    Counter.builder(PREFIX + ".log.size")
+        .description("Size of the imported logs")
+        .baseUnit("bytes")
+        .tags(tags)
+        .register(registry)
+        .increment(logBytes);
+    Timer.builder(PREFIX + ".parse")
+        .description("Parsing of the reports, without publishing of the events")
+        .tags(tags)
+        .register(registry)
+        .record(parseNanos, TimeUnit.NANOSECONDS);
+    Timer.builder(PREFIX + ".publish")
+        .description("Publishing of the report events to the host, including batch commits")
+        .tags(tags)
+        .register(registry)
+        .record(publishNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private Timer importTimer(Tags tags) {
+    return Timer.builder(PREFIX)
+        .description("Imports of uploaded files")
+        .tags(tags)
+        .register(registry);
+  }
+
+  private static Tags tags(ImportProgress progress) {
+    return Tags.of(STRATEGY_TAG, progress.getStrategy(), PROJECT_TAG, progress.getProjectName());
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * State of a single launch import. Counters are updated by the import thread(s) and may be read
+ * concurrently by the status command.
+ */
+public class ImportProgress {
+
+  public enum State {
+    QUEUED, RUNNING, FINISHED, FAILED
+  }
+
+  private final String launchUuid;
+  private final String projectName;
+  private final String strategy;
+
+  private final LongAdder files = new LongAdder();
+  private final LongAdder items = new LongAdder();
+  private final LongAdder logs = new LongAdder();
+  private final LongAdder testcases = new LongAdder();
+  private final LongAdder bytes = new LongAdder();
+  private final LongAdder skippedEntries = new LongAdder();
+
+  private final LongAdder uploadNanos = new LongAdder();
+  private final LongAdder parseNanos = new LongAdder();
+  private final LongAdder publishNanos = new LongAdder();
+  private final LongAdder finalizeNanos = new LongAdder();
+
+  private volatile State state = State.QUEUED;
+  private volatile boolean launchStarted;
+  private volatile Instant launchStartTime;
+  private volatile long expectedItems = -1;
+  private volatile String message;
+  private volatile Instant completedAt;
+
+  /**
+   * @param launchUuid  uuid of the imported launch
+   * @param projectName project name
+   * @param strategy    name of the {@link ImportStrategy} importing the file
+   */
+  public ImportProgress(String launchUuid, String projectName, String strategy) {
+    this.launchUuid = launchUuid;
+    this.projectName = projectName;
+    this.strategy = strategy;
+  }
+
+  public String getLaunchUuid() {
+    return launchUuid;
+  }
+
+  public String getProjectName() {
+    return projectName;
+  }
+
+  public String getStrategy() {
+    return strategy;
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  public boolean isLaunchStarted() {
+    return launchStarted;
+  }
+
+  void launchStarted(Instant startTime) {
+    launchStartTime = startTime;
+    launchStarted = true;
+  }
+
+  /**
+   * @return start time the launch was started with, {@code null} until it's started
+   */
+  public Instant getLaunchStartTime() {
+    return launchStartTime;
+  }
+
+  void expectItems(long items) {
+    expectedItems = items;
+  }
+
+  /**
+   * @return number of items of the import, {@code null} if the reports weren't scanned upfront
+   */
+  public Long getExpectedItems() {
+    return expectedItems < 0 ? null : expectedItems;
+  }
+
+  public void start() {
+    state = State.RUNNING;
+  }
+
+  public void finish() {
+    complete(State.FINISHED, null);
+  }
+
+  public void fail(String message) {
+    complete(State.FAILED, message);
+  }
+
+  private void complete(State state, String message) {
+    this.message = message;
+    this.completedAt = Instant.now();
+    this.state = state;
+  }
+
+  /**
+   * @return time the import finished or failed, {@code null} if it's still in progress
+   */
+  public Instant getCompletedAt() {
+    return completedAt;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  void fileProcessed() {
+    files.increment();
+  }
+
+  void itemStarted() {
+    items.increment();
+  }
+
+  void logSaved() {
+    logs.increment();
+  }
+
+  public long getFiles() {
+    return files.sum();
+  }
+
+  public long getItems() {
+    return items.sum();
+  }
+
+  public long getLogs() {
+    return logs.sum();
+  }
+
+  void reportParsed(long bytes, long testcases, long parseNanos, long publishNanos) {
+    this.bytes.add(bytes);
+    this.testcases.add(testcases);
+    this.parseNanos.add(parseNanos);
+    this.publishNanos.add(publishNanos);
+  }
+
+  void entrySkipped() {
+    skippedEntries.increment();
+  }
+
+  void launchFinalized(long nanos) {
+    finalizeNanos.add(nanos);
+  }
+
+  /**
+   * @param nanos time the uploaded file was copied for the import
+   */
+  public void uploadTransferred(long nanos) {
+    uploadNanos.add(nanos);
+  }
+
+  public long getTestcases() {
+    return testcases.sum();
+  }
+
+  /**
+   * @return uncompressed size of the parsed reports
+   */
+  public long getBytes() {
+    return bytes.sum();
+  }
+
+  /**
+   * @return number of archive entries which aren't reports
+   */
+  public long getSkippedEntries() {
+    return skippedEntries.sum();
+  }
+
+  public long getUploadNanos() {
+    return uploadNanos.sum();
+  }
+
+  /**
+   * @return time the reports were parsed, excluding the time of publishing their events, summed
+   * over the reports parsed concurrently
+   */
+  public long getParseNanos() {
+    return parseNanos.sum();
+  }
+
+  /**
+   * @return time the events were published to the host, summed over the reports parsed
+   * concurrently
+   */
+  public long getPublishNanos() {
+    return publishNanos.sum();
+  }
+
+  /**
+   * @return time the launch was finished and its start time was updated
+   */
+  public long getFinalizeNanos() {
+    return finalizeNanos.sum();
+  }
+}
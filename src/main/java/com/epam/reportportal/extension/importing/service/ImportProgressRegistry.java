@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps {@link ImportProgress} of recent imports by launch uuid. Completed imports are evicted
+ * once they are older than the retention period.
+ */
+public class ImportProgressRegistry {
+
+  private final Map<String, ImportProgress> imports = new ConcurrentHashMap<>();
+
+  private final Duration retention;
+
+  public ImportProgressRegistry(Duration retention) {
+    this.retention = retention;
+  }
+
+  public void register(ImportProgress progress) {
+    evictExpired();
+    imports.put(progress.getLaunchUuid(), progress);
+  }
+
+  public Optional<ImportProgress> find(String launchUuid) {
+    return Optional.ofNullable(imports.get(launchUuid));
+  }
+
+  private void evictExpired() {
+    Instant expiration = Instant.now().minus(retention);
+    imports.values().removeIf(it -> it.getCompletedAt() != null
+        && it.getCompletedAt().isBefore(expiration));
+  }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.extension.importing.service;
+
+import com.epam.reportportal.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded scheduler of imports. A slot has to be reserved before an import is submitted, so an
+ * import is rejected before its launch is started rather than after.
+ *
+ * <p>At most {@code threads} imports run at once and at most {@code projectThreads} of them
+ * belong to the same project. Queued imports are taken from the projects in turn, so a project
+ * submitting many imports doesn't delay the imports of other projects. A project also holds at
+ * most {@code projectThreads + projectQueueCapacity} slots, so it can't take the slots of the
+ * other projects either.
+ */
+public class ImportScheduler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ImportScheduler.class);
+
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+  private final ExecutorService executor;
+
+  private final int threads;
+
+  private final int projectThreads;
+
+  // running, queued and reserved imports
+  private final int capacity;
+
+  // running, queued and reserved imports of a single project
+  private final int projectCapacity;
+
+  // guarded by this
+  private final Map<String, ProjectQueue> projects = new HashMap<>();
+  // projects with queued imports in the order they are served
+  private final Deque<ProjectQueue> rotation = new ArrayDeque<>();
+  private int slots;
+  private int running;
+  private boolean shutdown;
+
+  public ImportScheduler(int threads, int projectThreads, int queueCapacity,
+      int projectQueueCapacity, ImportThreadType threadType) {
+    this.threads = threads;
+    this.projectThreads = Math.min(projectThreads, threads);
+    this.capacity = threads + queueCapacity;
+    this.projectCapacity = this.projectThreads + projectQueueCapacity;
+    // imports are dispatched only to a free thread, the queue of the executor stays empty
+    this.executor = threadType.newExecutor("junit-import", threads);
+  }
+
+  /**
+   * Reserves a slot for an import of the project.
+   *
+   * @param projectName project of the import
+   * @return reservation to run the import in
+   * @throws ReportPortalException if all the slots or all the slots of the project are taken
+   */
+  public synchronized Reservation reserve(String projectName) {
+    if (shutdown) {
+      throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+          "Import scheduler is shut down.");
+    }
+    if (slots >= capacity) {
+      throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+          "Too many imports are in progress. Please, try again later.");
+    }
+    ProjectQueue project = projects.get(projectName);
+    if (project != null && project.slots >= projectCapacity) {
+      throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+          "Too many imports of the project are in progress. Please, try again later.");
+    }
+    if (project == null) {
+      project = new ProjectQueue(projectName);
+      projects.put(projectName, project);
+    }
+    slots++;
+    project.slots++;
+    return new Reservation(project);
+  }
+
+  private synchronized CompletableFuture<Void> submit(ProjectQueue project, Runnable task) {
+    if (shutdown) {
+      release(project);
+      throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+          "Import scheduler is shut down.");
+    }
+    ScheduledImport scheduledImport = new ScheduledImport(task);
+    project.tasks.add(scheduledImport);
+    if (project.tasks.size() == 1) {
+      rotation.addLast(project);
+    }
+    dispatch();
+    return scheduledImport.completion;
+  }
+
+  /*
+   * Takes the next import of the projects in turn, a project at its limit of running imports
+   * is passed over until one of them is completed
+   */
+  private void dispatch() {
+    int skipped = 0;
+    while (running < threads && skipped < rotation.size()) {
+      ProjectQueue project = rotation.pollFirst();
+      if (project.running >= projectThreads) {
+        rotation.addLast(project);
+        skipped++;
+        continue;
+      }
+      skipped = 0;
+      ScheduledImport scheduledImport = project.tasks.poll();
+      if (!project.tasks.isEmpty()) {
+        rotation.addLast(project);
+      }
+      running++;
+      project.running++;
+      try {
+        executor.execute(() -> run(project, scheduledImport));
+      } catch (RejectedExecutionException e) {
+        running--;
+        project.running--;
+        drop(project, scheduledImport);
+      }
+    }
+  }
+
+  private void run(ProjectQueue project, ScheduledImport scheduledImport) {
+    try {
+      scheduledImport.task.run();
+      scheduledImport.completion.complete(null);
+    } catch (RuntimeException e) {
+      // the failure is handled by the one waiting for the completion
+      scheduledImport.completion.completeExceptionally(e);
+    } catch (Error e) {
+      scheduledImport.completion.completeExceptionally(e);
+      throw e;
+    } finally {
+      synchronized (this) {
+        running--;
+        project.running--;
+        release(project);
+        dispatch();
+      }
+    }
+  }
+
+  private void drop(ProjectQueue project, ScheduledImport scheduledImport) {
+    release(project);
+    scheduledImport.completion.completeExceptionally(new ReportPortalException(
+        ErrorType.BAD_REQUEST_ERROR, "Import scheduler is shut down."));
+  }
+
+  private void release(ProjectQueue project) {
+    slots--;
+    if (--project.slots == 0) {
+      projects.remove(project.name);
+    }
+  }
+
+  /**
+   * Stops accepting imports, drops the queued ones and waits for the running ones for a while,
+   * the rest are interrupted.
+   */
+  public void shutdown() {
+    synchronized (this) {
+      shutdown = true;
+      int dropped = 0;
+      for (ProjectQueue project : rotation) {
+        for (ScheduledImport scheduledImport; (scheduledImport = project.tasks.poll()) != null; ) {
+          drop(project, scheduledImport);
+          dropped++;
+        }
+      }
+      rotation.clear();
+      if (dropped > 0) {
+        LOGGER.warn("{} queued imports are dropped on shutdown", dropped);
+      }
+    }
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Slot reserved for an import, it's either used to run the import or cancelled.
+   */
+  public class Reservation {
+
+    private final ProjectQueue project;
+
+    private Reservation(ProjectQueue project) {
+      this.project = project;
+    }
+
+    /**
+     * Runs the import once a thread is available for its project. The slot is released once the
+     * import is completed.
+     *
+     * @param task import task
+     * @return completion of the import, it fails if the import fails or is dropped on shutdown
+     */
+    public CompletableFuture<Void> execute(Runnable task) {
+      return submit(project, task);
+    }
+
+    /**
+     * Releases the slot without running an import.
+     */
+    public void cancel() {
+      synchronized (ImportScheduler.this) {
+        release(project);
+      }
+    }
+  }
+
+  private static class ProjectQueue {
+
+    private final String name;
+
+    private final Queue<ScheduledImport> tasks = new ArrayDeque<>();
+
+    // reserved, queued and running imports
+    private int slots;
+
+    private int running;
+
+    ProjectQueue(String name) {
+      this.name = name;
+    }
+  }
+
+  private static class ScheduledImport {
+
+    private final Runnable task;
+
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    ScheduledImport(Runnable task) {
+      this.task = task;
+    }
+  }
+}
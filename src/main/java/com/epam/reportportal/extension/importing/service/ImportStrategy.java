@@ -25,13 +25,31 @@ import org.springframework.web.multipart.MultipartFile;
  */
 public interface ImportStrategy {
 
+  /**
+   * Starts the launch of the import if it isn't started yet.
+   *
+   * @param file        zip file that contains xml test reports
+   * @param projectName project name
+   * @param rq          {@link LaunchImportRQ} launch import request
+   * @param progress    {@link ImportProgress} of the import with the launch uuid
+   */
+  void startLaunch(MultipartFile file, String projectName, LaunchImportRQ rq,
+      ImportProgress progress);
+
   /**
    * Processing launch importing.
    *
    * @param file        zip file that contains xml test reports
    * @param projectName project name
    * @param rq          {@link LaunchImportRQ} launch import request
+   * @param progress    {@link ImportProgress} of the import with the launch uuid
    * @return launch uuid
    */
-  String importLaunch(MultipartFile file, String projectName, LaunchImportRQ rq);
+  String importLaunch(MultipartFile file, String projectName, LaunchImportRQ rq,
+      ImportProgress progress);
+
+  /**
+   * @return name of the strategy, the extension of the imported files
+   */
+  String getName();
 }
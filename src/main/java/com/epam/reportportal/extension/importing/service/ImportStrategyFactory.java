@@ -1,14 +1,20 @@
 package com.epam.reportportal.extension.importing.service;
 
+import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.GZ_EXTENSION;
+import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.TAR_EXTENSION;
+import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.TAR_GZ_EXTENSION;
+import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.TGZ_EXTENSION;
 import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.XML_EXTENSION;
 import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.ZIP_EXTENSION;
 
-import com.epam.reportportal.infrastructure.persistence.dao.LaunchRepository;
+import com.epam.reportportal.extension.importing.config.ImportProperties;
 import com.epam.reportportal.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.context.ApplicationEventPublisher;
 
@@ -16,14 +22,33 @@ public class ImportStrategyFactory {
 
   private final Map<String, ImportStrategy> STRATEGY_MAPPING;
 
-  public ImportStrategyFactory(ApplicationEventPublisher eventPublisher, LaunchRepository launchRepository) {
+  public ImportStrategyFactory(ApplicationEventPublisher eventPublisher, LaunchUpdater launchUpdater,
+      ImportProperties importProperties, BatchingEventPublisher.BatchExecutor batchExecutor,
+      Supplier<ExecutorService> parseExecutorSupplier,
+      Supplier<ExecutorService> publishExecutorSupplier, ImportMetrics importMetrics) {
+    XunitParseService xunitParseService = new XunitParseService(eventPublisher, importProperties,
+        batchExecutor, publishExecutorSupplier, importMetrics);
     STRATEGY_MAPPING = ImmutableMap.<String, ImportStrategy>builder()
-        .put(ZIP_EXTENSION, new ZipImportStrategy(eventPublisher, launchRepository))
-        .put(XML_EXTENSION, new XmlImportStrategy(eventPublisher, launchRepository)).build();
+        .put(ZIP_EXTENSION, new ZipImportStrategy(eventPublisher, launchUpdater, xunitParseService,
+            importProperties, parseExecutorSupplier))
+        .put(XML_EXTENSION, new XmlImportStrategy(eventPublisher, launchUpdater, xunitParseService))
+        .put(GZ_EXTENSION, new GzipImportStrategy(eventPublisher, launchUpdater, xunitParseService,
+            importProperties))
+        .put(TAR_EXTENSION, new TarImportStrategy(eventPublisher, launchUpdater, xunitParseService,
+            importProperties, TAR_EXTENSION, false))
+        .put(TAR_GZ_EXTENSION, new TarImportStrategy(eventPublisher, launchUpdater,
+            xunitParseService, importProperties, TAR_GZ_EXTENSION, true))
+        .put(TGZ_EXTENSION, new TarImportStrategy(eventPublisher, launchUpdater, xunitParseService,
+            importProperties, TGZ_EXTENSION, true))
+        .build();
   }
 
   public ImportStrategy getImportStrategy(String filename) {
-    final String extension = FilenameUtils.getExtension(filename);
+    // compound extensions like tar.gz take precedence over the last one
+    final String extension = STRATEGY_MAPPING.keySet().stream()
+        .filter(it -> it.contains(".") && filename.endsWith("." + it))
+        .findFirst()
+        .orElseGet(() -> FilenameUtils.getExtension(filename));
     return Optional.ofNullable(STRATEGY_MAPPING.get(extension))
         .orElseThrow(() -> new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
             "Incorrect file extension."));
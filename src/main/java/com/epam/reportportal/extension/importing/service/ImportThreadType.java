@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Threads running imports, parsing entries of archives and publishing parsed events.
+ */
+public enum ImportThreadType {
+
+  /**
+   * Pool of platform threads of the configured size.
+   */
+  PLATFORM {
+    @Override
+    public ExecutorService newExecutor(String name, int threads) {
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(),
+          new ThreadFactoryBuilder().setNameFormat(name + "-%d").setDaemon(true).build()) {
+        @Override
+        public List<Runnable> shutdownNow() {
+          List<Runnable> dropped = super.shutdownNow();
+          dropped.forEach(ImportThreadType::cancel);
+          return dropped;
+        }
+      };
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  },
+
+  /**
+   * A virtual thread per task, the configured size limits the tasks running at once. A thread
+   * blocked on I/O or on a host event listener doesn't hold a platform thread.
+   */
+  VIRTUAL {
+    @Override
+    public ExecutorService newExecutor(String name, int threads) {
+      return new BoundedVirtualThreadExecutor(name, threads);
+    }
+  };
+
+  /**
+   * @param name    name prefix of the threads
+   * @param threads max tasks running at once
+   * @return executor, tasks beyond the limit wait for the running ones. Waiting tasks dropped by
+   * {@link ExecutorService#shutdownNow()} are cancelled if they are {@link Future}s, so the ones
+   * waiting for them are completed
+   */
+  public abstract ExecutorService newExecutor(String name, int threads);
+
+  static void cancel(Runnable task) {
+    if (task instanceof Future<?> future) {
+      future.cancel(false);
+    }
+  }
+
+  public static ImportThreadType fromString(String type) {
+    return Arrays.stream(values()).filter(it -> it.name().equalsIgnoreCase(type)).findAny()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown import thread type: " + type));
+  }
+}
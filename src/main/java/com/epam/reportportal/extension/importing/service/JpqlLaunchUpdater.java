@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import com.epam.reportportal.infrastructure.persistence.entity.enums.StatusEnum;
+import com.epam.reportportal.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.Map;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Updates the launch columns with a single statement, without loading the entity. Other columns
+ * are left as they are, so the update doesn't overwrite the ones changed by the host while it
+ * handles the finish of the launch.
+ */
+public class JpqlLaunchUpdater implements LaunchUpdater {
+
+  private static final String UPDATE_START_TIME =
+      "UPDATE Launch l SET l.startTime = :startTime WHERE l.uuid = :uuid";
+
+  private static final String INTERRUPT =
+      "UPDATE Launch l SET l.startTime = :startTime, l.status = :status WHERE l.uuid = :uuid";
+
+  private final EntityManager entityManager;
+
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * @param entityManager      shared entity manager of the host
+   * @param transactionManager host transaction manager the entity manager takes part in
+   */
+  public JpqlLaunchUpdater(EntityManager entityManager,
+      PlatformTransactionManager transactionManager) {
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Override
+  public void updateStartTime(String launchUuid, Instant startTime) {
+    executeUpdate(UPDATE_START_TIME, launchUuid, Map.of("startTime", startTime));
+  }
+
+  @Override
+  public void interrupt(String launchUuid, Instant startTime) {
+    executeUpdate(INTERRUPT, launchUuid,
+        Map.of("startTime", startTime, "status", StatusEnum.INTERRUPTED));
+  }
+
+  private void executeUpdate(String statement, String launchUuid, Map<String, Object> values) {
+    Integer updated = transactionTemplate.execute(status -> {
+      var query = entityManager.createQuery(statement).setParameter("uuid", launchUuid);
+      values.forEach(query::setParameter);
+      return query.executeUpdate();
+    });
+    if (updated == null || updated == 0) {
+      throw new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, launchUuid);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import java.time.Instant;
+
+/**
+ * Applies changes of an imported launch which are not covered by the reporting events.
+ */
+public interface LaunchUpdater {
+
+  /**
+   * Sets the actual start time of the launch, known once its reports are parsed.
+   *
+   * @param launchUuid launch uuid
+   * @param startTime  start time of the earliest item
+   */
+  void updateStartTime(String launchUuid, Instant startTime);
+
+  /**
+   * Marks the launch of a failed import as interrupted.
+   *
+   * @param launchUuid launch uuid
+   * @param startTime  start time replacing the placeholder one
+   */
+  void interrupt(String launchUuid, Instant startTime);
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * {@link ApplicationEventPublisher} that passes events of the parsing thread through a
+ * {@link SpscRingBuffer} to a publishing thread, so a document is parsed while the host persists
+ * its previous events. Events are published in the order they were received. The parsing thread
+ * waits while the buffer is full, a failure of the publishing thread is rethrown to the parsing
+ * thread on the next event or on {@link #close()}, whichever comes first. An instance is supposed
+ * to be used for a single document.
+ *
+ * <p>A thread about to wait raises its waiting flag and checks the buffer once more, the other
+ * thread changes the buffer and checks the flag, with a full fence in between on both sides. So
+ * either the waiting thread sees the change or the other one sees the flag and unparks it, and
+ * the threads park without a timeout.
+ */
+class PipelinedEventPublisher implements ApplicationEventPublisher, AutoCloseable {
+
+  private final SpscRingBuffer<Object> buffer;
+
+  private final ApplicationEventPublisher delegate;
+
+  private final Thread producer;
+
+  // set once the publishing task is started, before it waits for the first time
+  private volatile Thread publisher;
+
+  private final CountDownLatch published = new CountDownLatch(1);
+
+  // taken by the publishing task when it starts or by its cancellation, whichever comes first
+  private final AtomicBoolean started = new AtomicBoolean();
+
+  private volatile boolean producerWaiting;
+
+  private volatile boolean publisherWaiting;
+
+  private volatile boolean finished;
+
+  private volatile Throwable failure;
+
+  private boolean closed;
+
+  // a failure thrown on an event isn't thrown again on close, so it isn't suppressed into itself
+  private boolean failureReported;
+
+  private long stallNanos;
+
+  /**
+   * @param delegate   publisher called by the publishing thread, a {@link BatchingEventPublisher}
+   *                   is flushed by it after the last event
+   * @param capacity   events buffered before the parsing thread waits
+   * @param executor   executor running the publishing task, the task takes a thread until the
+   *                   document is parsed. A task cancelled before it's started fails the import
+   */
+  PipelinedEventPublisher(ApplicationEventPublisher delegate, int capacity, Executor executor) {
+    this.buffer = new SpscRingBuffer<>(capacity);
+    this.delegate = delegate;
+    this.producer = Thread.currentThread();
+    executor.execute(new PublishingTask());
+  }
+
+  @Override
+  public void publishEvent(Object event) {
+    publishEvent(event, 0);
+  }
+
+  public void publishEvent(Object event, long payloadSize) {
+    rethrowFailure();
+    Object element = payloadSize > 0 ? new SizedEvent(event, payloadSize) : event;
+    if (!buffer.offer(element)) {
+      awaitSpace(element);
+    }
+    // the offer is an ordered write only, it mustn't be reordered with the read of the flag
+    VarHandle.fullFence();
+    if (publisherWaiting) {
+      LockSupport.unpark(publisher);
+    }
+  }
+
+  /**
+   * Waits until the publishing thread publishes the buffered events, then rethrows its failure if
+   * any and it wasn't rethrown on an event already. Called by the parsing thread, the calls after
+   * the first one do nothing.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    finished = true;
+    // a task that isn't started yet sees the end before it waits
+    LockSupport.unpark(publisher);
+    Uninterruptibles.awaitUninterruptibly(published);
+    if (!failureReported) {
+      rethrowFailure();
+    }
+  }
+
+  /**
+   * @return time the parsing thread waited for space in the buffer
+   */
+  long getStallNanos() {
+    return stallNanos;
+  }
+
+  private void awaitSpace(Object element) {
+    long start = System.nanoTime();
+    boolean interrupted = false;
+    try {
+      while (true) {
+        producerWaiting = true;
+        VarHandle.fullFence();
+        if (buffer.offer(element)) {
+          break;
+        }
+        rethrowFailure();
+        LockSupport.park(this);
+        // the buffer is drained by the publishing thread regardless of the interruption
+        interrupted |= Thread.interrupted();
+      }
+    } finally {
+      producerWaiting = false;
+      stallNanos += System.nanoTime() - start;
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void publishAll() {
+    if (!started.compareAndSet(false, true)) {
+      return;
+    }
+    publisher = Thread.currentThread();
+    try {
+      while (true) {
+        Object element = buffer.poll();
+        if (element != null) {
+          // the slot is free once it's polled, the producer doesn't wait for the publishing
+          VarHandle.fullFence();
+          if (producerWaiting) {
+            LockSupport.unpark(producer);
+          }
+          publish(element);
+        } else if (finished) {
+          // the events offered before the end are visible once the end is
+          if (buffer.isEmpty()) {
+            break;
+          }
+        } else {
+          publisherWaiting = true;
+          VarHandle.fullFence();
+          if (buffer.isEmpty() && !finished) {
+            LockSupport.park(this);
+            // the interruption doesn't stop the publishing, the parsing thread waits for it
+            Thread.interrupted();
+          }
+          publisherWaiting = false;
+        }
+      }
+      // the batching publisher isn't thread-safe, so it's flushed by the publishing thread
+      if (delegate instanceof BatchingEventPublisher batchingPublisher) {
+        batchingPublisher.flush();
+      }
+    } catch (Throwable e) {
+      failure = e;
+      LockSupport.unpark(producer);
+    } finally {
+      publisher = null;
+      published.countDown();
+    }
+  }
+
+  private void publish(Object element) {
+    if (element instanceof SizedEvent sizedEvent) {
+      BatchingEventPublisher.publish(delegate, sizedEvent.event, sizedEvent.payloadSize);
+    } else {
+      delegate.publishEvent(element);
+    }
+  }
+
+  private void rethrowFailure() {
+    Throwable e = failure;
+    if (e != null) {
+      failureReported = true;
+      Throwables.throwIfUnchecked(e);
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /*
+   * The executors of ImportThreadType cancel the queued tasks dropped by shutdownNow, a task
+   * cancelled before it's started releases the parsing thread instead of publishing
+   */
+  private class PublishingTask extends FutureTask<Void> {
+
+    private PublishingTask() {
+      super(PipelinedEventPublisher.this::publishAll, null);
+    }
+
+    @Override
+    protected void done() {
+      if (isCancelled() && started.compareAndSet(false, true)) {
+        failure = new IllegalStateException("Publishing of the events is cancelled");
+        LockSupport.unpark(producer);
+        published.countDown();
+      }
+    }
+  }
+
+  private static class SizedEvent {
+
+    private final Object event;
+
+    private final long payloadSize;
+
+    private SizedEvent(Object event, long payloadSize) {
+      this.event = event;
+      this.payloadSize = payloadSize;
+    }
+  }
+}
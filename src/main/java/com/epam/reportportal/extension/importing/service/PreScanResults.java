@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import java.time.Instant;
+
+/**
+ * Launch metadata collected by {@link ReportPreScanner} before the reports are imported.
+ */
+public class PreScanResults {
+
+  private Instant startTime;
+
+  private boolean untimedSuites;
+
+  private long items;
+
+  /**
+   * @return start time of the earliest root suite, {@code null} if there are no root suites or
+   * some of them have no start time, in this case the actual one is known after the import only
+   */
+  public Instant getStartTime() {
+    return untimedSuites ? null : startTime;
+  }
+
+  /**
+   * @return number of suites and test cases, the items started by the import
+   */
+  public long getItems() {
+    return items;
+  }
+
+  void addRootSuite(Instant suiteStartTime) {
+    if (suiteStartTime == null) {
+      untimedSuites = true;
+    } else if (startTime == null || suiteStartTime.isBefore(startTime)) {
+      startTime = suiteStartTime;
+    }
+  }
+
+  void addItem() {
+    items++;
+  }
+
+  /**
+   * @param other results of another report of the same launch
+   * @return these results including the other ones
+   */
+  PreScanResults merge(PreScanResults other) {
+    untimedSuites |= other.untimedSuites;
+    if (other.startTime != null && (startTime == null || other.startTime.isBefore(startTime))) {
+      startTime = other.startTime;
+    }
+    items += other.items;
+    return this;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import static com.epam.reportportal.extension.importing.service.XunitReportAttribute.START_TIME;
+import static com.epam.reportportal.extension.importing.service.XunitReportAttribute.TIMESTAMP;
+
+import com.epam.reportportal.extension.importing.utils.TimestampParser;
+import com.epam.reportportal.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.io.InputStream;
+import java.time.Instant;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Cheap pass over a report which looks at the suite and test case start tags only. Text content
+ * is skipped and no events are published, so the launch can be started with its actual start
+ * time and the import progress knows the number of items upfront.
+ */
+public class ReportPreScanner {
+
+  private final XMLInputFactory factory = StaxXunitParser.createFactory();
+
+  /**
+   * @param inputStream report content, not closed by the scanner
+   * @return launch metadata of the report
+   */
+  public PreScanResults scan(InputStream inputStream) {
+    PreScanResults results = new PreScanResults();
+    // a parser remembers the timestamp format of a document, so it's created per report
+    TimestampParser timestampParser = new TimestampParser();
+    XMLStreamReader reader = null;
+    try {
+      reader = factory.createXMLStreamReader(inputStream);
+      int suiteDepth = 0;
+      while (reader.hasNext()) {
+        switch (reader.next()) {
+          case XMLStreamConstants.START_ELEMENT:
+            XunitReportTag tag = XunitReportTag.fromString(reader.getLocalName());
+            if (tag == XunitReportTag.TESTSUITE) {
+              if (suiteDepth++ == 0) {
+                results.addRootSuite(resolveStartTime(reader, timestampParser));
+              }
+              results.addItem();
+            } else if (tag == XunitReportTag.TESTCASE) {
+              results.addItem();
+            }
+            break;
+          case XMLStreamConstants.END_ELEMENT:
+            if (XunitReportTag.fromString(reader.getLocalName()) == XunitReportTag.TESTSUITE) {
+              suiteDepth--;
+            }
+            break;
+          case XMLStreamConstants.DTD:
+            throw new XMLStreamException("DOCTYPE is disallowed", reader.getLocation());
+          default:
+            break;
+        }
+      }
+      return results;
+    } catch (XMLStreamException e) {
+      throw new ReportPortalException(ErrorType.PARSING_XML_ERROR, e.getMessage());
+    } finally {
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (XMLStreamException ignored) {
+          // nothing to do, the stream is owned by the caller
+        }
+      }
+    }
+  }
+
+  private static Instant resolveStartTime(XMLStreamReader reader,
+      TimestampParser timestampParser) {
+    String startTime = reader.getAttributeValue(null, START_TIME.getValue());
+    if (StringUtils.isNotEmpty(startTime)) {
+      return timestampParser.parse(startTime);
+    }
+    String timestamp = reader.getAttributeValue(null, TIMESTAMP.getValue());
+    return StringUtils.isNotEmpty(timestamp) ? timestampParser.parse(timestamp) : null;
+  }
+}
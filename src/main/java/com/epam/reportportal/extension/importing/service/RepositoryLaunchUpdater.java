@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import com.epam.reportportal.infrastructure.persistence.dao.LaunchRepository;
+import com.epam.reportportal.infrastructure.persistence.entity.enums.StatusEnum;
+import com.epam.reportportal.infrastructure.persistence.entity.launch.Launch;
+import com.epam.reportportal.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.time.Instant;
+
+/**
+ * Loads and saves the whole launch entity, used when the host doesn't expose its entity manager.
+ */
+public class RepositoryLaunchUpdater implements LaunchUpdater {
+
+  private final LaunchRepository launchRepository;
+
+  public RepositoryLaunchUpdater(LaunchRepository launchRepository) {
+    this.launchRepository = launchRepository;
+  }
+
+  @Override
+  public void updateStartTime(String launchUuid, Instant startTime) {
+    Launch launch = findLaunch(launchUuid);
+    launch.setStartTime(startTime);
+    launchRepository.save(launch);
+  }
+
+  @Override
+  public void interrupt(String launchUuid, Instant startTime) {
+    Launch launch = findLaunch(launchUuid);
+    launch.setStartTime(startTime);
+    launch.setStatus(StatusEnum.INTERRUPTED);
+    launchRepository.save(launch);
+  }
+
+  private Launch findLaunch(String launchUuid) {
+    return launchRepository.findByUuid(launchUuid)
+        .orElseThrow(() -> new ReportPortalException(ErrorType.LAUNCH_NOT_FOUND, launchUuid));
+  }
+}
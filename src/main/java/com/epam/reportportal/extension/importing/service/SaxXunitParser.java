@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import com.epam.reportportal.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import org.xml.sax.SAXException;
+
+/**
+ * SAX based {@link XunitParser}. Parsers are created by a single hardened
+ * {@link SAXParserFactory} and pooled; they are {@link SAXParser#reset() reset} on release,
+ * which restores the factory configuration, so a pooled parser is equivalent to a freshly
+ * created one.
+ */
+public class SaxXunitParser implements XunitParser {
+
+  private final SAXParserFactory factory;
+
+  private final Queue<SAXParser> idleParsers = new ConcurrentLinkedQueue<>();
+
+  private final AtomicInteger idleCount = new AtomicInteger();
+
+  private final int maxIdle;
+
+  public SaxXunitParser(int maxIdle) {
+    this.factory = createFactory();
+    this.maxIdle = maxIdle;
+  }
+
+  @Override
+  public void parse(InputStream inputStream, XunitImportHandler handler) {
+    SAXParser saxParser = null;
+    try {
+      saxParser = acquire();
+      saxParser.parse(inputStream, handler);
+    } catch (SAXException | IOException | ParserConfigurationException e) {
+      throw new ReportPortalException(ErrorType.PARSING_XML_ERROR, e.getMessage());
+    } finally {
+      if (saxParser != null) {
+        release(saxParser);
+      }
+    }
+  }
+
+  private SAXParser acquire() throws ParserConfigurationException, SAXException {
+    SAXParser parser = idleParsers.poll();
+    if (parser != null) {
+      idleCount.decrementAndGet();
+      return parser;
+    }
+    return factory.newSAXParser();
+  }
+
+  private void release(SAXParser parser) {
+    try {
+      parser.reset();
+    } catch (UnsupportedOperationException e) {
+      // implementation can't be reset to the factory state, so it must not be reused
+      return;
+    }
+    if (idleCount.incrementAndGet() <= maxIdle) {
+      idleParsers.offer(parser);
+    } else {
+      idleCount.decrementAndGet();
+    }
+  }
+
+  /*
+   * Features have to be set on the factory before any parser is created,
+   * otherwise they don't apply to the parsers it produces.
+   */
+  private static SAXParserFactory createFactory() {
+    try {
+      SAXParserFactory factory = SAXParserFactory.newInstance();
+      factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+      // Xerces 2 only - http://xerces.apache.org/xerces2-j/features.html#disallow-doctype-decl
+      factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+      // Xerces 1 - http://xerces.apache.org/xerces-j/features.html#external-general-entities
+      // Xerces 2 - http://xerces.apache.org/xerces2-j/features.html#external-general-entities
+      factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+      factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+      factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+      factory.setXIncludeAware(false);
+      return factory;
+    } catch (ParserConfigurationException | SAXException e) {
+      throw new IllegalStateException("Unable to configure SAX parser factory", e);
+    }
+  }
+}
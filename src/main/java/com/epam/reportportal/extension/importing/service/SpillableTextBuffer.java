@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import com.epam.reportportal.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Text buffer with a bounded in-memory part. Once the content exceeds the in-memory limit it
+ * is written to a temporary file, and only the leading preview part is kept in memory, so heap
+ * use doesn't depend on the size of the captured text.
+ */
+class SpillableTextBuffer {
+
+  private static final String SPILL_FILE_PREFIX = "junit-import-";
+  private static final String SPILL_FILE_SUFFIX = ".log";
+
+  private final int inMemoryLimit;
+  private final int previewLength;
+  private final StringBuilder buffer = new StringBuilder();
+
+  private Path spillFile;
+  private Writer spillWriter;
+
+  SpillableTextBuffer(int inMemoryLimit, int previewLength) {
+    this.inMemoryLimit = inMemoryLimit;
+    this.previewLength = Math.min(previewLength, inMemoryLimit);
+  }
+
+  void append(char[] ch, int start, int length) {
+    if (spillWriter == null && buffer.length() + length <= inMemoryLimit) {
+      buffer.append(ch, start, length);
+      return;
+    }
+    try {
+      if (spillWriter == null) {
+        spill();
+      }
+      spillWriter.write(ch, start, length);
+    } catch (IOException e) {
+      throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR,
+          "Unable to write log content to a temporary file: " + e.getMessage());
+    }
+    if (buffer.length() < previewLength) {
+      buffer.append(ch, start, Math.min(length, previewLength - buffer.length()));
+    }
+  }
+
+  boolean isSpilled() {
+    return spillFile != null;
+  }
+
+  /**
+   * Returns the in-memory text without leading and trailing whitespace, the same way
+   * {@link String#trim()} does. For spilled content it is the preview part.
+   *
+   * @return text or {@code null} if there is nothing but whitespace
+   */
+  String getText() {
+    int start = 0;
+    int end = buffer.length();
+    while (start < end && buffer.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && buffer.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return start == end ? null : buffer.substring(start, end);
+  }
+
+  /**
+   * Completes writing of the spilled content and hands the file over to the caller, who is
+   * responsible for deleting it. The buffer is cleared.
+   *
+   * @return file with the whole content
+   */
+  Path detachSpillFile() {
+    Path file = spillFile;
+    try {
+      spillWriter.close();
+    } catch (IOException e) {
+      deleteQuietly(file);
+      throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR,
+          "Unable to write log content to a temporary file: " + e.getMessage());
+    } finally {
+      spillWriter = null;
+      spillFile = null;
+      buffer.setLength(0);
+    }
+    return file;
+  }
+
+  /**
+   * Clears the buffer and discards spilled content, if any.
+   */
+  void clear() {
+    buffer.setLength(0);
+    if (spillFile != null) {
+      try {
+        spillWriter.close();
+      } catch (IOException ignored) {
+        // file is deleted anyway
+      }
+      deleteQuietly(spillFile);
+      spillWriter = null;
+      spillFile = null;
+    }
+  }
+
+  private void spill() throws IOException {
+    spillFile = Files.createTempFile(SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX);
+    spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8);
+    spillWriter.append(buffer);
+    buffer.setLength(Math.min(buffer.length(), previewLength));
+  }
+
+  static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException ignored) {
+      // temp directory is cleaned up by the OS eventually
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded lock-free queue of a single producer and a single consumer thread. The producer and the
+ * consumer only read each other's index when their cached copy says the buffer is full or empty.
+ *
+ * @param <E> element type
+ */
+class SpscRingBuffer<E> {
+
+  private final Object[] buffer;
+
+  private final int mask;
+
+  // next slot to poll, written by the consumer only
+  private final AtomicLong head = new AtomicLong();
+
+  // next slot to offer, written by the producer only
+  private final AtomicLong tail = new AtomicLong();
+
+  // producer's copy of the head
+  private long cachedHead;
+
+  // consumer's copy of the tail
+  private long cachedTail;
+
+  /**
+   * @param capacity min capacity, rounded up to a power of two
+   */
+  SpscRingBuffer(int capacity) {
+    int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+    this.buffer = new Object[size];
+    this.mask = size - 1;
+  }
+
+  /**
+   * Called by the producer thread only.
+   *
+   * @param element element
+   * @return {@code false} if the buffer is full
+   */
+  boolean offer(E element) {
+    long currentTail = tail.get();
+    if (currentTail - cachedHead == buffer.length) {
+      cachedHead = head.get();
+      if (currentTail - cachedHead == buffer.length) {
+        return false;
+      }
+    }
+    buffer[(int) currentTail & mask] = element;
+    // the ordered write publishes the slot before the consumer can see the new tail
+    tail.lazySet(currentTail + 1);
+    return true;
+  }
+
+  /**
+   * Called by the consumer thread only.
+   *
+   * @return next element or {@code null} if the buffer is empty
+   */
+  @SuppressWarnings("unchecked")
+  E poll() {
+    long currentHead = head.get();
+    if (currentHead == cachedTail) {
+      cachedTail = tail.get();
+      if (currentHead == cachedTail) {
+        return null;
+      }
+    }
+    int index = (int) currentHead & mask;
+    E element = (E) buffer[index];
+    buffer[index] = null;
+    head.lazySet(currentHead + 1);
+    return element;
+  }
+
+  boolean isEmpty() {
+    return head.get() == tail.get();
+  }
+
+  int capacity() {
+    return buffer.length;
+  }
+}
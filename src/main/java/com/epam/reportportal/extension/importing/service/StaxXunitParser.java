@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import com.epam.reportportal.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.io.InputStream;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.xml.sax.Attributes;
+
+/**
+ * StAX (pull) based {@link XunitParser}. Emits the same sequence of events as
+ * {@link SaxXunitParser}, but hands the reader's own character buffer to the handler instead
+ * of a per-chunk copy and doesn't go through the SAX callback machinery.
+ */
+public class StaxXunitParser implements XunitParser {
+
+  private final XMLInputFactory factory;
+
+  public StaxXunitParser() {
+    this.factory = createFactory();
+  }
+
+  @Override
+  public void parse(InputStream inputStream, XunitImportHandler handler) {
+    XMLStreamReader reader = null;
+    try {
+      reader = factory.createXMLStreamReader(inputStream);
+      StaxAttributes attributes = new StaxAttributes(reader);
+      handler.startDocument();
+      while (reader.hasNext()) {
+        switch (reader.next()) {
+          case XMLStreamConstants.START_ELEMENT:
+            handler.startElement("", reader.getLocalName(), qName(reader), attributes);
+            break;
+          case XMLStreamConstants.END_ELEMENT:
+            handler.endElement("", reader.getLocalName(), qName(reader));
+            break;
+          case XMLStreamConstants.CHARACTERS:
+          case XMLStreamConstants.CDATA:
+          case XMLStreamConstants.SPACE:
+            handler.characters(reader.getTextCharacters(), reader.getTextStart(),
+                reader.getTextLength());
+            break;
+          case XMLStreamConstants.DTD:
+            throw new XMLStreamException("DOCTYPE is disallowed", reader.getLocation());
+          default:
+            break;
+        }
+      }
+      handler.endDocument();
+    } catch (XMLStreamException e) {
+      throw new ReportPortalException(ErrorType.PARSING_XML_ERROR, e.getMessage());
+    } finally {
+      closeQuietly(reader);
+    }
+  }
+
+  private static String qName(XMLStreamReader reader) {
+    String prefix = reader.getPrefix();
+    if (prefix == null || prefix.isEmpty()) {
+      return reader.getLocalName();
+    }
+    return prefix + ":" + reader.getLocalName();
+  }
+
+  private static void closeQuietly(XMLStreamReader reader) {
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (XMLStreamException ignored) {
+        // nothing to do, the stream is owned by the caller
+      }
+    }
+  }
+
+  /*
+   * Same hardening as for the SAX engine: no DTDs, no external entities.
+   * A configured factory is thread-safe for creating readers.
+   */
+  static XMLInputFactory createFactory() {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+    factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+    return factory;
+  }
+
+  /**
+   * Read-only {@link Attributes} view over the attributes of the current start element.
+   */
+  private static final class StaxAttributes implements Attributes {
+
+    private final XMLStreamReader reader;
+
+    private StaxAttributes(XMLStreamReader reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public int getLength() {
+      return reader.getAttributeCount();
+    }
+
+    @Override
+    public String getURI(int index) {
+      return inRange(index) ? nullToEmpty(reader.getAttributeNamespace(index)) : null;
+    }
+
+    @Override
+    public String getLocalName(int index) {
+      return inRange(index) ? reader.getAttributeLocalName(index) : null;
+    }
+
+    @Override
+    public String getQName(int index) {
+      if (!inRange(index)) {
+        return null;
+      }
+      String prefix = reader.getAttributePrefix(index);
+      String localName = reader.getAttributeLocalName(index);
+      return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    }
+
+    @Override
+    public String getType(int index) {
+      return inRange(index) ? reader.getAttributeType(index) : null;
+    }
+
+    @Override
+    public String getValue(int index) {
+      return inRange(index) ? reader.getAttributeValue(index) : null;
+    }
+
+    @Override
+    public int getIndex(String uri, String localName) {
+      for (int i = 0; i < reader.getAttributeCount(); i++) {
+        if (localName.equals(reader.getAttributeLocalName(i))
+            && uri.equals(nullToEmpty(reader.getAttributeNamespace(i)))) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public int getIndex(String qName) {
+      for (int i = 0; i < reader.getAttributeCount(); i++) {
+        if (isQName(i, qName)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public String getType(String uri, String localName) {
+      return getType(getIndex(uri, localName));
+    }
+
+    @Override
+    public String getType(String qName) {
+      return getType(getIndex(qName));
+    }
+
+    @Override
+    public String getValue(String uri, String localName) {
+      return getValue(getIndex(uri, localName));
+    }
+
+    @Override
+    public String getValue(String qName) {
+      return getValue(getIndex(qName));
+    }
+
+    private boolean isQName(int index, String qName) {
+      String prefix = reader.getAttributePrefix(index);
+      String localName = reader.getAttributeLocalName(index);
+      if (prefix == null || prefix.isEmpty()) {
+        return localName.equals(qName);
+      }
+      return qName.length() == prefix.length() + 1 + localName.length()
+          && qName.startsWith(prefix) && qName.charAt(prefix.length()) == ':'
+          && qName.endsWith(localName);
+    }
+
+    private boolean inRange(int index) {
+      return index >= 0 && index < reader.getAttributeCount();
+    }
+
+    private static String nullToEmpty(String value) {
+      return value == null ? "" : value;
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.XML_EXTENSION;
+
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import com.epam.reportportal.extension.importing.model.LaunchImportRQ;
+import com.epam.reportportal.extension.importing.service.archive.TarArchiveReader;
+import com.epam.reportportal.extension.importing.service.archive.UncompressedSizeLimit;
+import com.epam.reportportal.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Imports xml reports of a tar archive, optionally gzip compressed. Entries are parsed one by
+ * one as they are read from the upload, nothing is extracted to the disk. The archive is read up to
+ * the max uncompressed size of archives.
+ */
+public class TarImportStrategy extends AbstractImportStrategy {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final XunitParseService xunitParseService;
+
+  private final ImportProperties importProperties;
+
+  private final String extension;
+
+  private final boolean compressed;
+
+  /**
+   * @param extension  extension of the imported files
+   * @param compressed whether the archive is gzip compressed
+   */
+  public TarImportStrategy(ApplicationEventPublisher eventPublisher,
+      LaunchUpdater launchUpdater, XunitParseService xunitParseService,
+      ImportProperties importProperties, String extension, boolean compressed) {
+    super(eventPublisher, launchUpdater);
+    this.xunitParseService = xunitParseService;
+    this.importProperties = importProperties;
+    this.extension = extension;
+    this.compressed = compressed;
+  }
+
+  @Override
+  public String importLaunch(MultipartFile file, String projectName, LaunchImportRQ rq,
+      ImportProgress progress) {
+    String launchUuid = progress.getLaunchUuid();
+    try (InputStream archiveStream = openArchiveStream(file)) {
+      TarArchiveReader reader = new TarArchiveReader(archiveStream);
+      // the first header is verified before the launch is started, so a broken file is rejected
+      TarArchiveReader.Entry entry = reader.nextEntry();
+      startLaunch(file, projectName, rq, progress);
+      boolean isSkippedNotIssue = isSkippedNotIssue(rq.getAttributes());
+      List<ParseResults> parseResults = new ArrayList<>();
+      for (; entry != null; entry = reader.nextEntry()) {
+        if (isReport(entry)) {
+          parseResults.add(xunitParseService.call(entry.getInputStream(), progress,
+              isSkippedNotIssue));
+        } else if (!entry.isDirectory()) {
+          progress.entrySkipped();
+        }
+      }
+      ParseResults results = processResults(parseResults);
+      finishLaunch(progress, projectName, results);
+      return launchUuid;
+    } catch (Exception e) {
+      if (progress.isLaunchStarted()) {
+        updateBrokenLaunch(launchUuid);
+      }
+      throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR, cleanMessage(e));
+    }
+  }
+
+  @Override
+  protected PreScanResults preScan(MultipartFile file) {
+    if (!xunitParseService.isPreScanEnabled()) {
+      return null;
+    }
+    try (InputStream archiveStream = openArchiveStream(file)) {
+      TarArchiveReader reader = new TarArchiveReader(archiveStream);
+      PreScanResults results = new PreScanResults();
+      for (TarArchiveReader.Entry entry; (entry = reader.nextEntry()) != null; ) {
+        if (isReport(entry)) {
+          results.merge(xunitParseService.preScan(entry.getInputStream()));
+        }
+      }
+      return results;
+    } catch (IOException e) {
+      throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR, e.getMessage());
+    }
+  }
+
+  @Override
+  protected String getExtension() {
+    return extension;
+  }
+
+  private static boolean isReport(TarArchiveReader.Entry entry) {
+    return !entry.isDirectory() && entry.getName().endsWith(XML_EXTENSION);
+  }
+
+  private InputStream openArchiveStream(MultipartFile file) throws IOException {
+    InputStream inputStream = file.getInputStream();
+    return new UncompressedSizeLimit(importProperties.getArchiveMaxUncompressedSize()).wrap(
+        compressed ? gunzip(inputStream) : new BufferedInputStream(inputStream, BUFFER_SIZE));
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Accumulates the time the delegate spends on publishing, or the time of publishing whole batches
+ * to it, used by a single parsing or publishing thread.
+ */
+class TimedEventPublisher implements ApplicationEventPublisher {
+
+  private final ApplicationEventPublisher delegate;
+
+  private long publishNanos;
+
+  TimedEventPublisher(ApplicationEventPublisher delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void publishEvent(Object event) {
+    long start = System.nanoTime();
+    try {
+      delegate.publishEvent(event);
+    } finally {
+      publishNanos += System.nanoTime() - start;
+    }
+  }
+
+  /**
+   * @param batchExecutor executor of batches published to the delegate
+   * @return executor accumulating the time of a whole batch, including the transaction it runs
+   * in, the batch is supposed to publish to the delegate directly
+   */
+  BatchingEventPublisher.BatchExecutor timed(BatchingEventPublisher.BatchExecutor batchExecutor) {
+    return batch -> {
+      long start = System.nanoTime();
+      try {
+        batchExecutor.execute(batch);
+      } finally {
+        publishNanos += System.nanoTime() - start;
+      }
+    };
+  }
+
+  long getPublishNanos() {
+    return publishNanos;
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Allocates version 7 UUIDs (RFC 9562): 48 bits of the unix epoch millis followed by 74 random
+ * bits. Random bits are taken from {@link ThreadLocalRandom}, so allocation never contends
+ * between threads. The identifiers are unique, not secret, like the ones of the reporting API.
+ */
+public class UuidV7IdAllocator implements IdAllocator {
+
+  private static final long VERSION = 0x7000L;
+  private static final long RAND_A_MASK = 0xFFFL;
+  private static final long VARIANT = 0x8000000000000000L;
+  private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+  @Override
+  public String nextId() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long mostSigBits = System.currentTimeMillis() << 16 | VERSION | random.nextLong() & RAND_A_MASK;
+    long leastSigBits = VARIANT | random.nextLong() & RAND_B_MASK;
+    return new UUID(mostSigBits, leastSigBits).toString();
+  }
+}
@@ -19,11 +19,10 @@ package com.epam.reportportal.extension.importing.service;
 import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.XML_EXTENSION;
 
 import com.epam.reportportal.extension.importing.model.LaunchImportRQ;
-import com.epam.reportportal.infrastructure.persistence.dao.LaunchRepository;
 import com.epam.reportportal.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.io.IOException;
 import java.io.InputStream;
-import java.util.Optional;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -34,24 +33,53 @@ public class XmlImportStrategy extends AbstractImportStrategy {
 
   private final XunitParseService xunitParseService;
 
-  public XmlImportStrategy(ApplicationEventPublisher eventPublisher, LaunchRepository launchRepository) {
-    super(eventPublisher, launchRepository);
-    this.xunitParseService = new XunitParseService(eventPublisher);
+  public XmlImportStrategy(ApplicationEventPublisher eventPublisher, LaunchUpdater launchUpdater,
+      XunitParseService xunitParseService) {
+    super(eventPublisher, launchUpdater);
+    this.xunitParseService = xunitParseService;
   }
 
   @Override
-  public String importLaunch(MultipartFile file, String projectName, LaunchImportRQ rq) {
-    String launchUuid = null;
-    try (InputStream xmlStream = file.getInputStream()) {
-      launchUuid = startLaunch(getLaunchName(file, XML_EXTENSION), projectName, rq);
-      ParseResults parseResults = xunitParseService.call(xmlStream, launchUuid, projectName,
+  public String importLaunch(MultipartFile file, String projectName, LaunchImportRQ rq,
+      ImportProgress progress) {
+    String launchUuid = progress.getLaunchUuid();
+    try (InputStream xmlStream = openXmlStream(file)) {
+      startLaunch(file, projectName, rq, progress);
+      ParseResults parseResults = xunitParseService.call(xmlStream, progress,
           isSkippedNotIssue(rq.getAttributes()));
-      finishLaunch(launchUuid, projectName, parseResults);
-      updateStartTime(launchUuid, parseResults.getStartTime());
+      finishLaunch(progress, projectName, parseResults);
       return launchUuid;
     } catch (Exception e) {
-      Optional.ofNullable(launchUuid).ifPresent(this::updateBrokenLaunch);
+      if (progress.isLaunchStarted()) {
+        updateBrokenLaunch(launchUuid);
+      }
       throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR, cleanMessage(e));
     }
   }
+
+  /**
+   * @param file imported file
+   * @return xml content of the file
+   * @throws IOException if the file can't be read
+   */
+  protected InputStream openXmlStream(MultipartFile file) throws IOException {
+    return file.getInputStream();
+  }
+
+  @Override
+  protected PreScanResults preScan(MultipartFile file) {
+    if (!xunitParseService.isPreScanEnabled()) {
+      return null;
+    }
+    try (InputStream xmlStream = openXmlStream(file)) {
+      return xunitParseService.preScan(xmlStream);
+    } catch (IOException e) {
+      throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR, e.getMessage());
+    }
+  }
+
+  @Override
+  protected String getExtension() {
+    return XML_EXTENSION;
+  }
 }
@@ -16,18 +16,19 @@
 
 package com.epam.reportportal.extension.importing.service;
 
-import static com.epam.reportportal.extension.importing.service.XunitReportTag.ATTR_NAME;
-import static com.epam.reportportal.extension.importing.service.XunitReportTag.ATTR_TIME;
-import static com.epam.reportportal.extension.importing.service.XunitReportTag.START_TIME;
-import static com.epam.reportportal.extension.importing.service.XunitReportTag.TESTSUITE;
-import static com.epam.reportportal.extension.importing.service.XunitReportTag.TESTSUITES;
-import static com.epam.reportportal.extension.importing.service.XunitReportTag.TIMESTAMP;
-import static com.epam.reportportal.extension.importing.service.XunitReportTag.fromString;
+import static com.epam.reportportal.extension.importing.service.XunitReportAttribute.ATTR_NAME;
+import static com.epam.reportportal.extension.importing.service.XunitReportAttribute.ATTR_TIME;
+import static com.epam.reportportal.extension.importing.service.XunitReportAttribute.ATTR_VALUE;
+import static com.epam.reportportal.extension.importing.service.XunitReportAttribute.START_TIME;
+import static com.epam.reportportal.extension.importing.service.XunitReportAttribute.TIMESTAMP;
 import static com.epam.reportportal.extension.importing.utils.DateUtils.toMillis;
 import static com.epam.reportportal.infrastructure.persistence.entity.enums.TestItemIssueGroup.NOT_ISSUE_FLAG;
 import static java.util.Optional.ofNullable;
 
+import com.epam.reportportal.extension.importing.config.ImportProperties;
 import com.epam.reportportal.extension.importing.model.ItemInfo;
+import com.epam.reportportal.extension.importing.utils.FileSystemMultipartFile;
+import com.epam.reportportal.extension.importing.utils.TimestampParser;
 import com.epam.reportportal.infrastructure.events.FinishItemRqEvent;
 import com.epam.reportportal.infrastructure.events.SaveLogRqEvent;
 import com.epam.reportportal.infrastructure.events.StartChildItemRqEvent;
@@ -43,21 +44,17 @@ import com.epam.reportportal.reporting.ItemAttributesRQ;
 import com.epam.reportportal.reporting.SaveLogRQ;
 import com.epam.reportportal.reporting.StartTestItemRQ;
 import com.google.common.base.Strings;
-import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalAccessor;
-import java.time.temporal.TemporalQueries;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashSet;
-import java.util.UUID;
+import java.util.List;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -65,31 +62,46 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.xml.sax.Attributes;
 import org.xml.sax.helpers.DefaultHandler;
 
-public class XunitImportHandler extends DefaultHandler {
+public class XunitImportHandler extends DefaultHandler implements AutoCloseable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(XunitImportHandler.class);
   private static final int MAX_ENTITY_NAME_LENGTH = 256;
+  private static final String TRUNCATED_MESSAGE_TEMPLATE = "%s\n...\nFull output is attached as %s";
+  private static final String ATTACHMENT_CONTENT_TYPE = "text/plain";
   private final ApplicationEventPublisher eventPublisher;
+  private final IdAllocator idAllocator;
   private String projectName;
   private String launchUuid;
+  private ImportProgress progress;
   private boolean isSkippedNotIssue = false;
   private long commonDuration;
+  private long testcases;
+  private long logBytes;
   private Deque<ItemInfo> itemInfos;
   private StatusEnum status;
-  private StringBuilder message;
+  // text of the current failure, error, skipped, warning, system-out, system-err or properties
+  private final SpillableTextBuffer message;
+  private final List<Path> attachments = new ArrayList<>();
+  private final TimestampParser timestampParser = new TimestampParser();
+  private boolean capturingText;
   private boolean rootVerified;
   private Instant lowestTime = Instant.now();
 
   private Instant currentTime;
 
-  public XunitImportHandler(ApplicationEventPublisher eventPublisher) {
+  public XunitImportHandler(ApplicationEventPublisher eventPublisher,
+      ImportProperties importProperties) {
     this.eventPublisher = eventPublisher;
+    this.idAllocator = importProperties.getIdAllocatorType().getAllocator();
+    this.message = new SpillableTextBuffer(importProperties.getLogInMemoryLimit(),
+        importProperties.getLogPreviewLength());
   }
 
   @Override
   public void startDocument() {
     itemInfos = new ArrayDeque<>();
-    message = new StringBuilder();
+    message.clear();
+    capturingText = false;
   }
 
   @Override
@@ -98,8 +110,9 @@ public class XunitImportHandler extends DefaultHandler {
 
   @Override
   public void startElement(String uri, String localName, String qName, Attributes attributes) {
-    verifyRootElement(qName);
-    switch (XunitReportTag.fromString(qName)) {
+    XunitReportTag tag = XunitReportTag.fromString(qName);
+    verifyRootElement(tag);
+    switch (tag) {
       case TESTSUITE:
         if (itemInfos.isEmpty()) {
           startRootItem(attributes);
@@ -112,22 +125,23 @@ public class XunitImportHandler extends DefaultHandler {
         break;
       case ERROR:
       case FAILURE:
-        message = new StringBuilder();
+        startCapturingText();
         status = StatusEnum.FAILED;
         break;
       case SKIPPED:
-        message = new StringBuilder();
+        startCapturingText();
         status = StatusEnum.SKIPPED;
         break;
       case SYSTEM_OUT:
       case SYSTEM_ERR:
       case WARNING:
-        message = new StringBuilder();
+        startCapturingText();
         break;
       case PROPERTIES:
         if (itemInfos.peek() != null) {
           itemInfos.peek().setItemAttributes(new HashSet<>());
         }
+        startCapturingText();
         break;
       case PROPERTY:
         handleProperty(attributes);
@@ -140,7 +154,8 @@ public class XunitImportHandler extends DefaultHandler {
 
   @Override
   public void endElement(String uri, String localName, String qName) {
-    switch (XunitReportTag.fromString(qName)) {
+    XunitReportTag tag = XunitReportTag.fromString(qName);
+    switch (tag) {
       case TESTSUITE:
         finishRootItem();
         break;
@@ -151,13 +166,13 @@ public class XunitImportHandler extends DefaultHandler {
       case ERROR:
       case FAILURE:
       case SYSTEM_ERR:
-        attachLog(LogLevel.ERROR);
+        attachLog(LogLevel.ERROR, tag);
         break;
       case SYSTEM_OUT:
-        attachLog(LogLevel.INFO);
+        attachLog(LogLevel.INFO, tag);
         break;
       case WARNING:
-        attachLog(LogLevel.WARN);
+        attachLog(LogLevel.WARN, tag);
         break;
       case PROPERTIES:
         pushDescription();
@@ -170,16 +185,19 @@ public class XunitImportHandler extends DefaultHandler {
 
   @Override
   public void characters(char[] ch, int start, int length) {
-    String msg = new String(ch, start, length);
-    if (!msg.isEmpty()) {
-      message.append(msg);
+    if (capturingText) {
+      message.append(ch, start, length);
     }
   }
 
-  private void verifyRootElement(String qName) {
+  private void startCapturingText() {
+    message.clear();
+    capturingText = true;
+  }
+
+  private void verifyRootElement(XunitReportTag rootTag) {
     if (!rootVerified) {
-      XunitReportTag rootTag = fromString(qName);
-      if (!Lists.newArrayList(TESTSUITES, TESTSUITE).contains(rootTag)) {
+      if (!rootTag.isRoot()) {
         throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR,
             "Root node in junit xml file must be 'testsuites' or 'testsuite'");
       }
@@ -192,6 +210,7 @@ public class XunitImportHandler extends DefaultHandler {
     currentTime = time;
     var rq = buildStartTestRq(attributes.getValue(ATTR_NAME.getValue()), time);
     eventPublisher.publishEvent(new StartRootItemRqEvent(projectName, rq));
+    progress.itemStarted();
 
     var itemInfo = new ItemInfo();
     itemInfo.setUuid(rq.getUuid());
@@ -213,16 +232,19 @@ public class XunitImportHandler extends DefaultHandler {
     if (itemInfos.peek() != null) {
       eventPublisher.publishEvent(
           new StartChildItemRqEvent(projectName, itemInfos.peek().getUuid(), rq));
+      progress.itemStarted();
     }
     var itemInfo = new ItemInfo();
     itemInfo.setUuid(rq.getUuid());
+    itemInfo.setStartTime(time);
+    itemInfo.setDuration(toMillis(attributes.getValue(ATTR_TIME.getValue())));
     itemInfos.push(itemInfo);
   }
 
   private void startStepItem(Attributes attributes) {
     var time = ofNullable(resolveStartTime(attributes)).orElse(currentTime);
     var rq = new StartTestItemRQ();
-    rq.setUuid(UUID.randomUUID().toString());
+    rq.setUuid(idAllocator.nextId());
     rq.setLaunchUuid(launchUuid);
     rq.setType(TestItemTypeEnum.STEP.name());
     rq.setName(
@@ -231,6 +253,8 @@ public class XunitImportHandler extends DefaultHandler {
 
     eventPublisher.publishEvent(
         new StartChildItemRqEvent(projectName, itemInfos.peek().getUuid(), rq));
+    progress.itemStarted();
+    testcases++;
 
     var itemInfo = new ItemInfo();
     itemInfo.setUuid(rq.getUuid());
@@ -242,9 +266,9 @@ public class XunitImportHandler extends DefaultHandler {
   private Instant resolveStartTime(Attributes attributes) {
     Instant time = null;
     if (StringUtils.isNotEmpty(attributes.getValue(START_TIME.getValue()))) {
-      time = parseTimeStamp(attributes.getValue(START_TIME.getValue()));
+      time = timestampParser.parse(attributes.getValue(START_TIME.getValue()));
     } else if (StringUtils.isNotEmpty(attributes.getValue(TIMESTAMP.getValue()))) {
-      time = parseTimeStamp(attributes.getValue(TIMESTAMP.getValue()));
+      time = timestampParser.parse(attributes.getValue(TIMESTAMP.getValue()));
     }
     return time;
   }
@@ -292,22 +316,50 @@ public class XunitImportHandler extends DefaultHandler {
     currentTime = endTime;
   }
 
-  private void attachLog(LogLevel logLevel) {
-    if (null != message && message.length() != 0) {
-      var saveLogRQ = new SaveLogRQ();
-      saveLogRQ.setLaunchUuid(launchUuid);
-      saveLogRQ.setLevel(logLevel.name());
-      saveLogRQ.setLogTime(itemInfos.peek().getStartTime());
-      saveLogRQ.setMessage(message.toString().trim());
-      saveLogRQ.setItemUuid(itemInfos.peek().getUuid());
-      eventPublisher.publishEvent(new SaveLogRqEvent(projectName, saveLogRQ, null));
-      message = new StringBuilder();
+  private void attachLog(LogLevel logLevel, XunitReportTag tag) {
+    capturingText = false;
+    if (itemInfos.peek() == null) {
+      message.clear();
+      return;
+    }
+    var saveLogRQ = new SaveLogRQ();
+    saveLogRQ.setLaunchUuid(launchUuid);
+    saveLogRQ.setLevel(logLevel.name());
+    saveLogRQ.setLogTime(itemInfos.peek().getStartTime());
+    saveLogRQ.setItemUuid(itemInfos.peek().getUuid());
+    if (message.isSpilled()) {
+      String fileName = tag.getValue() + ".log";
+      String preview = message.getText();
+      Path content = message.detachSpillFile();
+      attachments.add(content);
+      saveLogRQ.setMessage(String.format(TRUNCATED_MESSAGE_TEMPLATE,
+          ofNullable(preview).orElse(""), fileName));
+      var file = new SaveLogRQ.File();
+      file.setName(fileName);
+      file.setContentType(ATTACHMENT_CONTENT_TYPE);
+      saveLogRQ.setFile(file);
+      BatchingEventPublisher.publish(eventPublisher, new SaveLogRqEvent(projectName, saveLogRQ,
+              new FileSystemMultipartFile(content, tag.getValue(), fileName,
+                  ATTACHMENT_CONTENT_TYPE)),
+          saveLogRQ.getMessage().length());
+      progress.logSaved();
+      logBytes += saveLogRQ.getMessage().length() + attachmentSize(content);
+    } else {
+      String text = message.getText();
+      message.clear();
+      if (text != null) {
+        saveLogRQ.setMessage(text);
+        BatchingEventPublisher.publish(eventPublisher,
+            new SaveLogRqEvent(projectName, saveLogRQ, null), text.length());
+        progress.logSaved();
+        logBytes += text.length();
+      }
     }
   }
 
   private StartTestItemRQ buildStartTestRq(String name, Instant startTime) {
     var rq = new StartTestItemRQ();
-    rq.setUuid(UUID.randomUUID().toString());
+    rq.setUuid(idAllocator.nextId());
     rq.setLaunchUuid(launchUuid);
     rq.setStartTime(startTime);
     rq.setType(TestItemTypeEnum.SUITE.name());
@@ -320,8 +372,8 @@ public class XunitImportHandler extends DefaultHandler {
     if (itemInfo == null) {
       return;
     }
-    if ("attribute".equalsIgnoreCase(attributes.getValue("name"))) {
-      var value = Arrays.stream(attributes.getValue("value").split(":"))
+    if ("attribute".equalsIgnoreCase(attributes.getValue(ATTR_NAME.getValue()))) {
+      var value = Arrays.stream(attributes.getValue(ATTR_VALUE.getValue()).split(":"))
           .filter(it -> !StringUtils.isEmpty(it)).toArray(String[]::new);
       if (value.length > 1) {
         itemInfo.getItemAttributes().add(new ItemAttributesRQ(value[0], value[1]));
@@ -340,18 +392,33 @@ public class XunitImportHandler extends DefaultHandler {
   }
 
   private void pushDescription() {
-    if (!StringUtils.isEmpty(message) && itemInfos.peek() != null) {
-      itemInfos.peek().setDescription(message.toString());
-      message = new StringBuilder();
+    capturingText = false;
+    // oversized description is cut down to the preview part
+    String text = message.getText();
+    message.clear();
+    if (text != null && itemInfos.peek() != null) {
+      itemInfos.peek().setDescription(text);
     }
   }
 
-  public void withParameters(String launchId, String projectName, boolean isSkippedNotIssue) {
-    this.projectName = projectName;
-    this.launchUuid = launchId;
+  public void withParameters(ImportProgress progress, boolean isSkippedNotIssue) {
+    this.progress = progress;
+    this.projectName = progress.getProjectName();
+    this.launchUuid = progress.getLaunchUuid();
     this.isSkippedNotIssue = isSkippedNotIssue;
   }
 
+  /**
+   * Removes temporary files with oversized log content that were attached to published log
+   * requests. Should be called once all the events of the document are handled by the host.
+   */
+  @Override
+  public void close() {
+    message.clear();
+    attachments.forEach(SpillableTextBuffer::deleteQuietly);
+    attachments.clear();
+  }
+
   public Instant getLowestTime() {
     return lowestTime;
   }
@@ -360,31 +427,24 @@ public class XunitImportHandler extends DefaultHandler {
     return commonDuration;
   }
 
-  private Instant parseTimeStamp(String timestamp) {
-    // try to parse datetime as Long, otherwise parse as timestamp
+  private static long attachmentSize(Path content) {
     try {
-      return Instant.ofEpochMilli(Long.parseLong(timestamp));
-    } catch (NumberFormatException ignored) {
-      DateTimeFormatter formatter =
-          new DateTimeFormatterBuilder().appendOptional(DateTimeFormatter.RFC_1123_DATE_TIME)
-              .appendOptional(DateTimeFormatter.ISO_OFFSET_DATE_TIME)
-              .appendOptional(DateTimeFormatter.ISO_LOCAL_DATE_TIME).optionalStart()
-              .appendOffsetId().appendZoneId().optionalEnd().optionalStart().appendLiteral(' ')
-              .parseCaseSensitive().appendZoneId().optionalEnd().toFormatter();
-
-      TemporalAccessor temporalAccessor = formatter.parse(timestamp);
-      if (isParsedTimeStampHasOffset(temporalAccessor)) {
-        return ZonedDateTime.from(temporalAccessor).withZoneSameInstant(ZoneOffset.UTC)
-            .toInstant();
-      } else {
-        return LocalDateTime.from(temporalAccessor).toInstant(ZoneOffset.UTC);
-      }
+      return Files.size(content);
+    } catch (IOException e) {
+      // the size is used by metrics only
+      return 0;
     }
+  }
 
+  public long getTestcases() {
+    return testcases;
   }
 
-  private boolean isParsedTimeStampHasOffset(TemporalAccessor temporalAccessor) {
-    return temporalAccessor.query(TemporalQueries.offset()) != null;
+  /**
+   * @return size of the published logs, inline messages are counted in characters
+   */
+  public long getLogBytes() {
+    return logBytes;
   }
 
 }
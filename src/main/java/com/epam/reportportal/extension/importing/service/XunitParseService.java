@@ -15,57 +15,130 @@
  */
 package com.epam.reportportal.extension.importing.service;
 
-import com.epam.reportportal.infrastructure.rules.exception.ErrorType;
-import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
-import java.io.IOException;
+import com.epam.reportportal.extension.importing.config.ImportProperties;
 import java.io.InputStream;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.springframework.context.ApplicationEventPublisher;
-import org.xml.sax.SAXException;
-import org.xml.sax.XMLReader;
 
 public class XunitParseService {
 
   private final ApplicationEventPublisher applicationEventPublisher;
 
-  public XunitParseService(ApplicationEventPublisher applicationEventPublisher) {
+  private final ImportProperties importProperties;
+
+  private final XunitParser xunitParser;
+
+  private final BatchingEventPublisher.BatchExecutor batchExecutor;
+
+  private final ReportPreScanner preScanner;
+
+  private final ImportMetrics importMetrics;
+
+  private final Supplier<ExecutorService> publishExecutorSupplier;
+
+  public XunitParseService(ApplicationEventPublisher applicationEventPublisher,
+      ImportProperties importProperties, BatchingEventPublisher.BatchExecutor batchExecutor,
+      Supplier<ExecutorService> publishExecutorSupplier, ImportMetrics importMetrics) {
     this.applicationEventPublisher = applicationEventPublisher;
+    this.publishExecutorSupplier = publishExecutorSupplier;
+    this.importMetrics = importMetrics;
+    this.importProperties = importProperties;
+    this.xunitParser = importProperties.getParserType().create();
+    this.batchExecutor = batchExecutor;
+    this.preScanner = importProperties.isPreScan() ? new ReportPreScanner() : null;
+  }
+
+  public boolean isPreScanEnabled() {
+    return preScanner != null;
+  }
+
+  /**
+   * @param inputStream report content
+   * @return launch metadata of the report
+   * @see ReportPreScanner
+   */
+  public PreScanResults preScan(InputStream inputStream) {
+    return preScanner.scan(inputStream);
   }
 
-  public ParseResults call(InputStream inputStream, String launchUuid, String projectName,
+  public ParseResults call(InputStream inputStream, ImportProgress progress,
       boolean isSkippedNotIssue) {
-    XunitImportHandler handler;
-    try {
-      SAXParserFactory spf = SAXParserFactory.newInstance();
-      SAXParser saxParser = spf.newSAXParser();
-      XMLReader reader = saxParser.getXMLReader();
-
-      // Xerces 1 - http://xerces.apache.org/xerces-j/features.html#external-general-entities
-      // Xerces 2 - http://xerces.apache.org/xerces2-j/features.html#external-general-entities
-
-      // Xerces 2 only - http://xerces.apache.org/xerces-j/features.html#external-general-entities
-      spf.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-      // Using the SAXParserFactory's setFeature
-      spf.setFeature("http://xml.org/sax/features/external-general-entities", false);
-      spf.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-      spf.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-      spf.setXIncludeAware(false);
-      // Using the XMLReader's setFeature
-      reader.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-      reader.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-      reader.setFeature("http://xml.org/sax/features/external-general-entities", false);
-      reader.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-
-      handler = new XunitImportHandler(applicationEventPublisher);
-      handler.withParameters(launchUuid, projectName, isSkippedNotIssue);
-
-      saxParser.parse(inputStream, handler);
-    } catch (SAXException | IOException | ParserConfigurationException e) {
-      throw new ReportPortalException(ErrorType.PARSING_XML_ERROR, e.getMessage());
+    long start = System.nanoTime();
+    // a batch is timed as a whole, including the transaction it's published in, and not when
+    // its events are collected
+    TimedEventPublisher timedPublisher = new TimedEventPublisher(applicationEventPublisher);
+    BatchingEventPublisher batchingPublisher = createBatchingPublisher(timedPublisher);
+    ApplicationEventPublisher eventPublisher = batchingPublisher != null ? batchingPublisher
+        : timedPublisher;
+    // unbounded, only counts the bytes read without the synchronization of CountingInputStream
+    BoundedInputStream countingStream = new BoundedInputStream(inputStream);
+    // the publishing thread is stopped on any failure, including the one of the handler setup
+    try (PipelinedEventPublisher pipelinedPublisher = createPipelinedPublisher(eventPublisher)) {
+      // spilled log files are removed on close, so pending events have to be flushed before that
+      try (XunitImportHandler handler = new XunitImportHandler(
+          pipelinedPublisher != null ? pipelinedPublisher : eventPublisher, importProperties)) {
+        handler.withParameters(progress, isSkippedNotIssue);
+        try {
+          xunitParser.parse(countingStream, handler);
+        } catch (RuntimeException e) {
+          // events parsed before the failure are published anyway, a failure to publish them
+          // doesn't hide the parse failure
+          try {
+            publishPending(pipelinedPublisher, batchingPublisher);
+          } catch (RuntimeException publishFailure) {
+            if (publishFailure != e) {
+              e.addSuppressed(publishFailure);
+            }
+          }
+          throw e;
+        }
+        long parseNanos;
+        if (pipelinedPublisher != null) {
+          // events are published while the report is parsed, only the waits for a full buffer
+          // are excluded from the parse time
+          parseNanos = System.nanoTime() - start - pipelinedPublisher.getStallNanos();
+          publishPending(pipelinedPublisher, batchingPublisher);
+        } else {
+          publishPending(null, batchingPublisher);
+          parseNanos = System.nanoTime() - start - timedPublisher.getPublishNanos();
+        }
+        progress.fileProcessed();
+        long publishNanos = timedPublisher.getPublishNanos();
+        progress.reportParsed(countingStream.getCount(), handler.getTestcases(), parseNanos,
+            publishNanos);
+        importMetrics.reportParsed(progress, countingStream.getCount(), handler.getTestcases(),
+            handler.getLogBytes(), parseNanos, publishNanos);
+        return new ParseResults(handler.getLowestTime(), handler.getCommonDuration());
+      }
+    }
+  }
+
+  private void publishPending(PipelinedEventPublisher pipelinedPublisher,
+      BatchingEventPublisher batchingPublisher) {
+    if (pipelinedPublisher != null) {
+      pipelinedPublisher.close();
+    } else if (batchingPublisher != null) {
+      batchingPublisher.flush();
+    }
+  }
+
+  private PipelinedEventPublisher createPipelinedPublisher(ApplicationEventPublisher delegate) {
+    if (importProperties.getPublishPipelineCapacity() <= 0) {
+      return null;
+    }
+    return new PipelinedEventPublisher(delegate, importProperties.getPublishPipelineCapacity(),
+        publishExecutorSupplier.get());
+  }
+
+  private BatchingEventPublisher createBatchingPublisher(TimedEventPublisher timedPublisher) {
+    if (importProperties.getPublishBatchSize() <= 1) {
+      return null;
     }
-    return new ParseResults(handler.getLowestTime(), handler.getCommonDuration());
+    return new BatchingEventPublisher(applicationEventPublisher,
+        timedPublisher.timed(batchExecutor), importProperties.getPublishBatchSize(),
+        importProperties.getPublishBatchBytes());
   }
 
 }
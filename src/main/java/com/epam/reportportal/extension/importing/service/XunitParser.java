@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.io.InputStream;
+
+/**
+ * Parse engine that feeds an xml test report into {@link XunitImportHandler}. An instance is
+ * shared by concurrent imports, so implementations have to be thread-safe.
+ */
+public interface XunitParser {
+
+  /**
+   * Parses the report and drives the handler with the document events.
+   *
+   * @param inputStream xml test report
+   * @param handler     {@link XunitImportHandler} to be notified about document events
+   * @throws ReportPortalException if the report can't be parsed
+   */
+  void parse(InputStream inputStream, XunitImportHandler handler);
+}
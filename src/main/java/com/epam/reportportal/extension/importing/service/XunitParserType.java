@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Available {@link XunitParser} engines.
+ */
+public enum XunitParserType {
+
+  SAX(() -> new SaxXunitParser(Runtime.getRuntime().availableProcessors() * 2)),
+
+  STAX(StaxXunitParser::new);
+
+  private final Supplier<XunitParser> parserSupplier;
+
+  XunitParserType(Supplier<XunitParser> parserSupplier) {
+    this.parserSupplier = parserSupplier;
+  }
+
+  public XunitParser create() {
+    return parserSupplier.get();
+  }
+
+  public static XunitParserType fromString(String type) {
+    return Arrays.stream(values()).filter(it -> it.name().equalsIgnoreCase(type)).findAny()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown xml parser type: " + type));
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+public enum XunitReportAttribute {
+	// name attribute for property, testcase and testsuite elements
+	ATTR_NAME("name"),
+
+	// time attribute for testcase and testsuite elements
+	ATTR_TIME("time"),
+
+	// type attribute for failure and error elements
+	ATTR_TYPE("type"),
+
+	// message attribute for failure elements
+	ATTR_MESSAGE("message"),
+
+	// value attribute for property elements
+	ATTR_VALUE("value"),
+
+	// timestamp of test cases
+	TIMESTAMP("timestamp"),
+
+	// timestamp of start test cases
+	START_TIME("startTime");
+
+	private final String value;
+
+	XunitReportAttribute(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+}
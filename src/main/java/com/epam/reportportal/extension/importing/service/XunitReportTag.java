@@ -15,7 +15,9 @@
  */
 package com.epam.reportportal.extension.importing.service;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 public enum XunitReportTag {
 	// the testsuites element for the aggregate document
@@ -42,38 +44,28 @@ public enum XunitReportTag {
 	// the system-out element
 	SYSTEM_OUT("system-out"),
 
-	// name attribute for property, testcase and testsuite elements
-	ATTR_NAME("name"),
-
-	// time attribute for testcase and testsuite elements
-	ATTR_TIME("time"),
-
 	SKIPPED("skipped"),
 
-	// type attribute for failure and error elements
-	ATTR_TYPE("type"),
-
-	// message attribute for failure elements
-	ATTR_MESSAGE("message"),
-
 	// the properties element
 	PROPERTIES("properties"),
 
 	// the property element
 	PROPERTY("property"),
 
-	// value attribute for property elements
-	ATTR_VALUE("value"),
-
-	// timestamp of test cases
-	TIMESTAMP("timestamp"),
-
-	// timestamp of start test cases
-	START_TIME("startTime"),
-
 	//unknown tag
 	UNKNOWN("unknown");
 
+	// lower-cased element name to tag, UNKNOWN is not an element so it's not a part of the lookup
+	private static final Map<String, XunitReportTag> TAGS = new HashMap<>();
+
+	static {
+		for (XunitReportTag tag : values()) {
+			if (tag != UNKNOWN) {
+				TAGS.put(tag.getValue().toLowerCase(Locale.ROOT), tag);
+			}
+		}
+	}
+
 	private String value;
 
 	XunitReportTag(String value) {
@@ -84,7 +76,34 @@ public enum XunitReportTag {
 		return value;
 	}
 
+	public boolean isRoot() {
+		return this == TESTSUITES || this == TESTSUITE;
+	}
+
+	/**
+	 * Case-insensitive lookup of an element name. Names are expected in lower case, so only names
+	 * that actually contain upper case characters are case-folded before the second lookup.
+	 *
+	 * @param type element name
+	 * @return matching tag or {@link #UNKNOWN}
+	 */
 	public static XunitReportTag fromString(String type) {
-		return Arrays.stream(values()).filter(it -> it.getValue().equalsIgnoreCase(type)).findAny().orElse(UNKNOWN);
+		if (type == null) {
+			return UNKNOWN;
+		}
+		XunitReportTag tag = TAGS.get(type);
+		if (tag == null && hasUpperCase(type)) {
+			tag = TAGS.get(type.toLowerCase(Locale.ROOT));
+		}
+		return tag == null ? UNKNOWN : tag;
+	}
+
+	private static boolean hasUpperCase(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			if (Character.isUpperCase(value.charAt(i))) {
+				return true;
+			}
+		}
+		return false;
 	}
 }
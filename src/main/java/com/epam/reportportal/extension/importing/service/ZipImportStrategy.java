@@ -15,24 +15,44 @@
  */
 package com.epam.reportportal.extension.importing.service;
 
+import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.GZ_EXTENSION;
 import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.XML_EXTENSION;
 import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.ZIP_EXTENSION;
 
+import com.epam.reportportal.extension.importing.config.ImportProperties;
 import com.epam.reportportal.extension.importing.model.LaunchImportRQ;
-
-import com.epam.reportportal.infrastructure.persistence.dao.LaunchRepository;
+import com.epam.reportportal.extension.importing.service.archive.ChannelZipFile;
+import com.epam.reportportal.extension.importing.service.archive.UncompressedSizeLimit;
+import com.epam.reportportal.extension.importing.utils.FileSystemMultipartFile;
 import com.epam.reportportal.infrastructure.rules.exception.ErrorType;
 import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
-import java.io.File;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
-import org.apache.commons.io.FilenameUtils;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+import org.apache.commons.io.input.CloseShieldInputStream;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -41,65 +61,466 @@ import org.springframework.web.multipart.MultipartFile;
  */
 public class ZipImportStrategy extends AbstractImportStrategy {
 
-  private static final Predicate<ZipEntry> isFile = zipEntry -> !zipEntry.isDirectory();
-  private static final Predicate<ZipEntry> isXml =
-      zipEntry -> zipEntry.getName().endsWith(XML_EXTENSION);
+  // directory entry names end with a slash, the same as ZipEntry#isDirectory() checks
+  private static final Predicate<String> isFile = entryName -> !entryName.endsWith("/");
+  private static final Predicate<String> isXml = entryName -> entryName.endsWith(XML_EXTENSION);
+  private static final Predicate<String> isZip = entryName -> entryName.endsWith("." + ZIP_EXTENSION);
+  private static final Predicate<String> isGzip = entryName -> entryName.endsWith("." + GZ_EXTENSION);
+
+  // ZipInputStream can't find the end of a stored entry whose sizes follow its data
+  private static final String STORED_WITH_DATA_DESCRIPTOR_MESSAGE =
+      "only DEFLATED entries can have EXT descriptor";
+
+  private static final int ZIP_SIGNATURE_LENGTH = 4;
+  private static final byte[] LOCAL_FILE_HEADER_SIGNATURE = {'P', 'K', 3, 4};
+  private static final byte[] EMPTY_ARCHIVE_SIGNATURE = {'P', 'K', 5, 6};
 
   private final XunitParseService xunitParseService;
 
-  public ZipImportStrategy(ApplicationEventPublisher eventPublisher, LaunchRepository launchRepository) {
-    super(eventPublisher, launchRepository);
-    this.xunitParseService = new XunitParseService(eventPublisher);
+  private final ImportProperties importProperties;
+
+  private final Supplier<ExecutorService> parseExecutorSupplier;
+
+  public ZipImportStrategy(ApplicationEventPublisher eventPublisher, LaunchUpdater launchUpdater,
+      XunitParseService xunitParseService, ImportProperties importProperties,
+      Supplier<ExecutorService> parseExecutorSupplier) {
+    super(eventPublisher, launchUpdater);
+    this.xunitParseService = xunitParseService;
+    this.importProperties = importProperties;
+    this.parseExecutorSupplier = parseExecutorSupplier;
   }
 
   @Override
-  public String importLaunch(MultipartFile file, String projectName, LaunchImportRQ rq) {
-    //copy of the launch's id to use it in catch block if something goes wrong
-    String savedLaunchUuid = null;
-    File zip = transferToTempFile(file);
-
-    try (ZipFile zipFile = new ZipFile(zip)) {
-      String launchUuid = startLaunch(getLaunchName(file, ZIP_EXTENSION), projectName, rq);
-      savedLaunchUuid = launchUuid;
-      List<ParseResults> parseResults = zipFile.stream().filter(isFile.and(isXml))
-          .map(zipEntry ->
-              xunitParseService.call(getEntryStream(zipFile, zipEntry), launchUuid,
-                  projectName,
-                  isSkippedNotIssue(rq.getAttributes()))).collect(Collectors.toList());
+  public String importLaunch(MultipartFile file, String projectName, LaunchImportRQ rq,
+      ImportProgress progress) {
+    String launchUuid = progress.getLaunchUuid();
+    try {
+      ImportContext context = new ImportContext(progress, isSkippedNotIssue(rq.getAttributes()),
+          new UncompressedSizeLimit(importProperties.getArchiveMaxUncompressedSize()));
+      // the central directory is only needed to split entries between threads
+      List<ParseResults> parseResults = importProperties.getParseParallelism() > 1
+          ? importArchiveFile(file, projectName, rq, context, 0)
+          : importArchiveStream(file, projectName, rq, context);
       ParseResults results = processResults(parseResults);
-      finishLaunch(launchUuid, projectName, results);
-      updateStartTime(launchUuid, results.getStartTime());
+      finishLaunch(progress, projectName, results);
       return launchUuid;
     } catch (Exception e) {
       e.printStackTrace();
-      updateBrokenLaunch(savedLaunchUuid);
+      if (progress.isLaunchStarted()) {
+        updateBrokenLaunch(launchUuid);
+      }
       throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR, cleanMessage(e));
+    }
+  }
+
+  /*
+   * Entries are parsed one by one as they are read from the upload, without copying it. A stored
+   * entry with a data descriptor can't be streamed, the rest of such an archive is read from the
+   * central directory
+   */
+  private List<ParseResults> importArchiveStream(MultipartFile file, String projectName,
+      LaunchImportRQ rq, ImportContext context) throws IOException {
+    List<ParseResults> parseResults = new ArrayList<>();
+    int entriesRead = 0;
+    try (InputStream inputStream = new BufferedInputStream(file.getInputStream())) {
+      verifyZipSignature(inputStream);
+      ZipInputStream zipStream = new ZipInputStream(inputStream);
+      startLaunch(file, projectName, rq, context.progress);
+      ReportVisitor visitor = parseInto(parseResults, context);
+      ZipEntry zipEntry;
+      while ((zipEntry = zipStream.getNextEntry()) != null) {
+        importZipEntry(zipStream, zipEntry, 0, context.sizeLimit, visitor);
+        entriesRead++;
+      }
+      return parseResults;
+    } catch (ZipException e) {
+      if (!isStoredWithDataDescriptor(e)) {
+        throw e;
+      }
+      parseResults.addAll(importArchiveFile(file, projectName, rq, context, entriesRead));
+      return parseResults;
+    }
+  }
+
+  /**
+   * @param entriesRead leading entries (in the order of the archive content) imported by the
+   *                    streaming import already
+   */
+  private List<ParseResults> importArchiveFile(MultipartFile file, String projectName,
+      LaunchImportRQ rq, ImportContext context, int entriesRead) throws IOException {
+    // a spooled upload is already on the disk
+    Path zip = file instanceof FileSystemMultipartFile fileSystemFile ? fileSystemFile.getPath()
+        : transferToTempFile(file, context.progress);
+    try (ChannelZipFile zipFile = ChannelZipFile.open(zip)) {
+      startLaunch(file, projectName, rq, context.progress);
+      List<ChannelZipFile.Entry> entries = new ArrayList<>();
+      for (ChannelZipFile.Entry entry : remainingEntries(zipFile, entriesRead)) {
+        if (isFile.test(entry.getName())) {
+          if (isReport(entry.getName())) {
+            entries.add(entry);
+          } else {
+            context.progress.entrySkipped();
+          }
+        }
+      }
+      int parallelism = resolveParallelism(entries);
+      return parallelism > 1
+          ? parseConcurrently(zipFile, entries, parallelism, context)
+          : entries.stream()
+              .flatMap(zipEntry -> parseEntry(zipFile, zipEntry, context).stream())
+              .collect(Collectors.toList());
     } finally {
-      try {
-        Files.deleteIfExists(zip.getAbsoluteFile().toPath());
-      } catch (IOException e) {
-        e.printStackTrace();
+      if (!(file instanceof FileSystemMultipartFile)) {
+        try {
+          Files.deleteIfExists(zip);
+        } catch (IOException e) {
+          e.printStackTrace();
+        }
+      }
+    }
+  }
+
+  /*
+   * Checks the local file header (or the end of central directory of an empty archive)
+   * signature, so a broken file is rejected before the launch is started
+   */
+  private void verifyZipSignature(InputStream inputStream) throws IOException {
+    inputStream.mark(ZIP_SIGNATURE_LENGTH);
+    byte[] signature = inputStream.readNBytes(ZIP_SIGNATURE_LENGTH);
+    inputStream.reset();
+    if (!Arrays.equals(signature, LOCAL_FILE_HEADER_SIGNATURE) && !Arrays.equals(signature,
+        EMPTY_ARCHIVE_SIGNATURE)) {
+      throw new ZipException("Zip archive is corrupted");
+    }
+  }
+
+  /*
+   * Reports of nested archives are streamed into the parser the same way, nothing is unpacked.
+   * Other entries are inflated to reach the next one, so they count towards the size limit
+   * as well
+   */
+  private void importZipEntries(ZipInputStream zipStream, int depth,
+      UncompressedSizeLimit sizeLimit, ReportVisitor visitor) throws IOException {
+    ZipEntry zipEntry;
+    while ((zipEntry = zipStream.getNextEntry()) != null) {
+      importZipEntry(zipStream, zipEntry, depth, sizeLimit, visitor);
+    }
+  }
+
+  private void importZipEntry(ZipInputStream zipStream, ZipEntry zipEntry, int depth,
+      UncompressedSizeLimit sizeLimit, ReportVisitor visitor) throws IOException {
+    if (isFile.test(zipEntry.getName())) {
+      if (isReport(zipEntry.getName())) {
+        importEntry(zipEntry.getName(), zipStream, depth, sizeLimit, visitor);
+      } else {
+        visitor.visitSkippedEntry();
+        ByteStreams.exhaust(sizeLimit.wrap(zipStream));
+      }
+    }
+  }
+
+  /*
+   * Entries already read from the stream are the leading ones by their local header offsets,
+   * the central directory may list them in another order
+   */
+  private static List<ChannelZipFile.Entry> remainingEntries(ChannelZipFile zipFile,
+      int entriesRead) {
+    if (entriesRead == 0) {
+      return zipFile.entries();
+    }
+    return zipFile.entries().stream()
+        .sorted(Comparator.comparingLong(ChannelZipFile.Entry::getLocalHeaderOffset))
+        .skip(entriesRead)
+        .collect(Collectors.toList());
+  }
+
+  private static boolean isStoredWithDataDescriptor(ZipException e) {
+    return STORED_WITH_DATA_DESCRIPTOR_MESSAGE.equals(e.getMessage());
+  }
+
+  /*
+   * The entry stream belongs to the enclosing archive, so it's never closed here
+   */
+  private void importEntry(String entryName, InputStream entryStream, int depth,
+      UncompressedSizeLimit sizeLimit, ReportVisitor visitor) throws IOException {
+    if (isZip.or(isGzip).test(entryName)) {
+      if (depth >= importProperties.getArchiveMaxDepth()) {
+        throw new ZipException("Archive " + entryName + " is nested deeper than "
+            + importProperties.getArchiveMaxDepth() + " levels");
+      }
+      if (isGzip.test(entryName)) {
+        try (InputStream gzipStream = gunzip(
+            sizeLimit.wrap(CloseShieldInputStream.wrap(entryStream)))) {
+          importEntry(stripGzipExtension(entryName), gzipStream, depth + 1, sizeLimit, visitor);
+        }
+      } else {
+        try (ZipInputStream zipStream = new ZipInputStream(
+            sizeLimit.wrap(CloseShieldInputStream.wrap(entryStream)))) {
+          importZipEntries(zipStream, depth + 1, sizeLimit, visitor);
+        } catch (ZipException e) {
+          // a nested archive is read as a stream only, parts of it are imported already
+          if (isStoredWithDataDescriptor(e)) {
+            throw new ZipException("Nested archive " + entryName
+                + " has stored entries with data descriptors, which are not supported");
+          }
+          throw e;
+        }
+      }
+    } else {
+      // parsers may close the stream once the document is read
+      visitor.visitReport(sizeLimit.wrap(CloseShieldInputStream.wrap(entryStream)));
+    }
+  }
+
+  private ReportVisitor parseInto(List<ParseResults> parseResults, ImportContext context) {
+    return new ReportVisitor() {
+      @Override
+      public void visitReport(InputStream report) {
+        parseResults.add(
+            xunitParseService.call(report, context.progress, context.isSkippedNotIssue));
+      }
+
+      @Override
+      public void visitSkippedEntry() {
+        context.progress.entrySkipped();
+      }
+    };
+  }
+
+  /*
+   * The upload is read once more, entries of nested archives are scanned as well
+   */
+  @Override
+  protected PreScanResults preScan(MultipartFile file) {
+    if (!xunitParseService.isPreScanEnabled()) {
+      return null;
+    }
+    PreScanResults results = new PreScanResults();
+    try (ZipInputStream zipStream = new ZipInputStream(
+        new BufferedInputStream(file.getInputStream()))) {
+      importZipEntries(zipStream, 0,
+          new UncompressedSizeLimit(importProperties.getArchiveMaxUncompressedSize()),
+          report -> results.merge(xunitParseService.preScan(report)));
+      return results;
+    } catch (ZipException e) {
+      if (isStoredWithDataDescriptor(e)) {
+        return preScanArchiveFile(file);
+      }
+      throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR, e.getMessage());
+    } catch (IOException e) {
+      throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR, e.getMessage());
+    }
+  }
+
+  /*
+   * The whole archive is scanned again from the central directory, the streamed part is dropped
+   */
+  private PreScanResults preScanArchiveFile(MultipartFile file) {
+    PreScanResults results = new PreScanResults();
+    UncompressedSizeLimit sizeLimit =
+        new UncompressedSizeLimit(importProperties.getArchiveMaxUncompressedSize());
+    Path zip = file instanceof FileSystemMultipartFile fileSystemFile ? fileSystemFile.getPath()
+        : copyToTempFile(file);
+    try (ChannelZipFile zipFile = ChannelZipFile.open(zip)) {
+      for (ChannelZipFile.Entry entry : zipFile.entries()) {
+        if (isFile.test(entry.getName()) && isReport(entry.getName())) {
+          try (InputStream entryStream = zipFile.getInputStream(entry)) {
+            importEntry(entry.getName(), entryStream, 0, sizeLimit,
+                report -> results.merge(xunitParseService.preScan(report)));
+          }
+        }
+      }
+      return results;
+    } catch (IOException e) {
+      throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR, e.getMessage());
+    } finally {
+      if (!(file instanceof FileSystemMultipartFile)) {
+        try {
+          Files.deleteIfExists(zip);
+        } catch (IOException e) {
+          e.printStackTrace();
+        }
       }
     }
   }
 
-  private InputStream getEntryStream(ZipFile file, ZipEntry zipEntry) {
+  private static boolean isReport(String entryName) {
+    if (isGzip.test(entryName)) {
+      return isReport(stripGzipExtension(entryName));
+    }
+    return isXml.or(isZip).test(entryName);
+  }
+
+  private static String stripGzipExtension(String entryName) {
+    return entryName.substring(0, entryName.length() - GZ_EXTENSION.length() - 1);
+  }
+
+  @Override
+  protected String getExtension() {
+    return ZIP_EXTENSION;
+  }
+
+  /*
+   * Every entry is a separate root suite, so entries are parsed independently. A thread is
+   * taken for each portion of bytes-per-thread only, small archives are parsed sequentially
+   */
+  private int resolveParallelism(List<ChannelZipFile.Entry> entries) {
+    if (importProperties.getParseParallelism() <= 1 || entries.size() <= 1) {
+      return 1;
+    }
+    long size = entries.stream().mapToLong(ChannelZipFile.Entry::getSize).sum();
+    long bySize = Math.max(1, size / Math.max(1, importProperties.getParseBytesPerThread()));
+    return (int) Math.min(importProperties.getParseParallelism(),
+        Math.min(entries.size(), bySize));
+  }
+
+  /*
+   * Workers take the next entry one by one and parse it completely, so events of an entry are
+   * published in order by a single thread. The calling thread works as one of them, which
+   * guarantees progress when the shared pool is busy with other imports
+   */
+  private List<ParseResults> parseConcurrently(ChannelZipFile zipFile,
+      List<ChannelZipFile.Entry> entries, int parallelism, ImportContext context) {
+    AtomicReferenceArray<List<ParseResults>> results = new AtomicReferenceArray<>(entries.size());
+    AtomicInteger nextEntry = new AtomicInteger();
+    AtomicBoolean failed = new AtomicBoolean();
+    Runnable worker = () -> {
+      int index;
+      while (!failed.get() && (index = nextEntry.getAndIncrement()) < entries.size()) {
+        try {
+          results.set(index, parseEntry(zipFile, entries.get(index), context));
+        } catch (RuntimeException e) {
+          failed.set(true);
+          throw e;
+        }
+      }
+    };
+
+    ExecutorService parseExecutor = parseExecutorSupplier.get();
+    List<Future<?>> workers = new ArrayList<>(parallelism - 1);
+    // a worker runs only if it is claimed before the calling thread gives up on it
+    AtomicIntegerArray claimed = new AtomicIntegerArray(parallelism - 1);
+    for (int i = 0; i < parallelism - 1; i++) {
+      int workerIndex = i;
+      workers.add(parseExecutor.submit(() -> {
+        if (claimed.compareAndSet(workerIndex, 0, 1)) {
+          worker.run();
+        }
+      }));
+    }
+    RuntimeException failure = null;
     try {
-      return file.getInputStream(zipEntry);
+      worker.run();
+    } catch (RuntimeException e) {
+      failure = e;
+    }
+    // the calling thread is done once all the entries are taken, so the workers still queued
+    // behind other imports are cancelled, the archive is closed once the running ones complete
+    for (int i = 0; i < workers.size(); i++) {
+      Future<?> future = workers.get(i);
+      if (claimed.compareAndSet(i, 0, 1)) {
+        future.cancel(false);
+        continue;
+      }
+      try {
+        Uninterruptibles.getUninterruptibly(future);
+      } catch (CancellationException e) {
+        // cancelled by the executor shutdown
+      } catch (ExecutionException e) {
+        if (failure == null) {
+          failure = e.getCause() instanceof RuntimeException runtimeException ? runtimeException
+              : new ReportPortalException(ErrorType.IMPORT_FILE_ERROR, e.getCause().getMessage());
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    List<ParseResults> parseResults = new ArrayList<>(entries.size());
+    for (int i = 0; i < results.length(); i++) {
+      parseResults.addAll(results.get(i));
+    }
+    return parseResults;
+  }
+
+  private List<ParseResults> parseEntry(ChannelZipFile zipFile, ChannelZipFile.Entry zipEntry,
+      ImportContext context) {
+    try (InputStream entryStream = zipFile.getInputStream(zipEntry)) {
+      List<ParseResults> parseResults = new ArrayList<>(1);
+      importEntry(zipEntry.getName(), entryStream, 0, context.sizeLimit,
+          parseInto(parseResults, context));
+      return parseResults;
     } catch (IOException e) {
       throw new ReportPortalException(ErrorType.IMPORT_FILE_ERROR, e.getMessage());
     }
   }
 
-  private File transferToTempFile(MultipartFile file) {
+  private Path transferToTempFile(MultipartFile file, ImportProgress progress) {
+    long start = System.nanoTime();
+    try {
+      Path tmp = Files.createTempFile("junit-import-", "." + ZIP_EXTENSION);
+      try {
+        file.transferTo(tmp.toFile());
+      } catch (IOException | RuntimeException e) {
+        Files.deleteIfExists(tmp);
+        throw e;
+      }
+      progress.uploadTransferred(System.nanoTime() - start);
+      return tmp;
+    } catch (IOException e) {
+      throw new ReportPortalException("Error during transferring multipart file.", e);
+    }
+  }
+
+  /*
+   * The upload is copied, not transferred, as it is read again by the import
+   */
+  private static Path copyToTempFile(MultipartFile file) {
     try {
-      File tmp = File.createTempFile(file.getOriginalFilename(),
-          "." + FilenameUtils.getExtension(file.getOriginalFilename())
-      );
-      file.transferTo(tmp);
+      Path tmp = Files.createTempFile("junit-import-", "." + ZIP_EXTENSION);
+      try (InputStream inputStream = file.getInputStream()) {
+        Files.copy(inputStream, tmp, StandardCopyOption.REPLACE_EXISTING);
+      } catch (IOException | RuntimeException e) {
+        Files.deleteIfExists(tmp);
+        throw e;
+      }
       return tmp;
     } catch (IOException e) {
       throw new ReportPortalException("Error during transferring multipart file.", e);
     }
   }
+
+  /*
+   * Receives the reports of an archive, including the ones of nested archives
+   */
+  @FunctionalInterface
+  private interface ReportVisitor {
+
+    void visitReport(InputStream report);
+
+    /*
+     * entries which are neither reports nor archives, the pre-scan doesn't count them
+     */
+    default void visitSkippedEntry() {
+    }
+  }
+
+  /*
+   * Settings of a single import shared by all the entries and threads parsing them
+   */
+  private static class ImportContext {
+
+    private final ImportProgress progress;
+
+    private final boolean isSkippedNotIssue;
+
+    private final UncompressedSizeLimit sizeLimit;
+
+    ImportContext(ImportProgress progress, boolean isSkippedNotIssue,
+        UncompressedSizeLimit sizeLimit) {
+      this.progress = progress;
+      this.isSkippedNotIssue = isSkippedNotIssue;
+      this.sizeLimit = sizeLimit;
+    }
+  }
 }
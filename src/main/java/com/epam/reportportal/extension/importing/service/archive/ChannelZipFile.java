@@ -0,0 +1,433 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service.archive;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Read-only zip archive backed by a {@link FileChannel}. The central directory is read once on
+ * open. Entry data is read with positional reads into a buffer per entry stream, so entries can
+ * be read by several threads at the same time. The archive isn't memory-mapped: a mapping is
+ * released by the garbage collector only, and it would keep the deleted temp file on the disk
+ * (or fail its deletion on Windows) long after {@link #close()}. Both plain and ZIP64 archives
+ * are supported, entries have to be stored or deflated. The CRC and the size of an entry are
+ * verified at the end of its data.
+ */
+public class ChannelZipFile implements Closeable {
+
+  private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+  private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+  private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+  private static final int CENTRAL_DIRECTORY_SIGNATURE = 0x02014b50;
+  private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+
+  private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+  private static final int ZIP64_LOCATOR_LENGTH = 20;
+  private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH = 56;
+  private static final int CENTRAL_DIRECTORY_HEADER_LENGTH = 46;
+  private static final int LOCAL_FILE_HEADER_LENGTH = 30;
+  private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+  private static final int ZIP64_EXTRA_FIELD_ID = 0x0001;
+  private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+  private static final int FLAG_ENCRYPTED = 1;
+
+  private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+  public static final int STORED = 0;
+  public static final int DEFLATED = 8;
+
+  private final FileChannel channel;
+  private final List<Entry> entries;
+
+  private ChannelZipFile(FileChannel channel) throws IOException {
+    this.channel = channel;
+    this.entries = Collections.unmodifiableList(readCentralDirectory());
+  }
+
+  public static ChannelZipFile open(Path path) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new ChannelZipFile(channel);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * @return entries in the order of the central directory
+   */
+  public List<Entry> entries() {
+    return entries;
+  }
+
+  /**
+   * Opens the entry data. The returned stream isn't thread-safe, but streams of different
+   * entries (or several streams of the same one) can be read concurrently.
+   *
+   * @param entry entry of this archive
+   * @return uncompressed entry content, it fails at the end if the content doesn't match the CRC
+   * @throws IOException if the entry can't be read
+   */
+  public InputStream getInputStream(Entry entry) throws IOException {
+    ByteBuffer header = read(entry.localHeaderOffset, LOCAL_FILE_HEADER_LENGTH);
+    if (header.getInt(0) != LOCAL_FILE_HEADER_SIGNATURE) {
+      throw new ZipException("Invalid local file header of entry " + entry.name);
+    }
+    long dataOffset = entry.localHeaderOffset + LOCAL_FILE_HEADER_LENGTH
+        + unsignedShort(header, 26) + unsignedShort(header, 28);
+    if (dataOffset + entry.compressedSize > channel.size()) {
+      throw new ZipException("Invalid size of entry " + entry.name);
+    }
+    return new EntryInputStream(entry, new EntryData(dataOffset, entry.compressedSize));
+  }
+
+  /**
+   * Closes the channel, nothing of the archive stays open afterwards, so its file can be deleted
+   * right away.
+   */
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private List<Entry> readCentralDirectory() throws IOException {
+    long size = channel.size();
+    long endOffset = findEndOfCentralDirectory(size);
+    ByteBuffer end = read(endOffset, END_OF_CENTRAL_DIRECTORY_LENGTH);
+    long count = unsignedShort(end, 10);
+    long directorySize = unsignedInt(end, 12);
+    long directoryOffset = unsignedInt(end, 16);
+
+    if (endOffset >= ZIP64_LOCATOR_LENGTH) {
+      ByteBuffer locator = read(endOffset - ZIP64_LOCATOR_LENGTH, ZIP64_LOCATOR_LENGTH);
+      if (locator.getInt(0) == ZIP64_LOCATOR_SIGNATURE) {
+        ByteBuffer zip64End = read(locator.getLong(8), ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH);
+        if (zip64End.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+          throw new ZipException("Invalid ZIP64 end of central directory");
+        }
+        count = zip64End.getLong(32);
+        directorySize = zip64End.getLong(40);
+        directoryOffset = zip64End.getLong(48);
+      }
+    }
+    if (directoryOffset + directorySize > size || directorySize > Integer.MAX_VALUE) {
+      throw new ZipException("Invalid central directory");
+    }
+
+    ByteBuffer directory = read(directoryOffset, (int) directorySize);
+    List<Entry> result = new ArrayList<>((int) Math.min(count, 1 << 16));
+    int position = 0;
+    for (long i = 0; i < count; i++) {
+      if (position + CENTRAL_DIRECTORY_HEADER_LENGTH > directorySize
+          || directory.getInt(position) != CENTRAL_DIRECTORY_SIGNATURE) {
+        throw new ZipException("Invalid central directory header");
+      }
+      result.add(readEntry(directory, position));
+      position += CENTRAL_DIRECTORY_HEADER_LENGTH + unsignedShort(directory, position + 28)
+          + unsignedShort(directory, position + 30) + unsignedShort(directory, position + 32);
+    }
+    return result;
+  }
+
+  private Entry readEntry(ByteBuffer directory, int position) throws ZipException {
+    int flags = unsignedShort(directory, position + 8);
+    int method = unsignedShort(directory, position + 10);
+    long crc = unsignedInt(directory, position + 16);
+    long compressedSize = unsignedInt(directory, position + 20);
+    long size = unsignedInt(directory, position + 24);
+    int nameLength = unsignedShort(directory, position + 28);
+    int extraLength = unsignedShort(directory, position + 30);
+    long localHeaderOffset = unsignedInt(directory, position + 42);
+
+    byte[] nameBytes = new byte[nameLength];
+    directory.get(position + CENTRAL_DIRECTORY_HEADER_LENGTH, nameBytes);
+    // names without the utf-8 flag are decoded as utf-8 as well, the same as ZipFile does
+    String name = new String(nameBytes, StandardCharsets.UTF_8);
+
+    // ZIP64 extra field holds only the values that overflow, in this order
+    int extra = position + CENTRAL_DIRECTORY_HEADER_LENGTH + nameLength;
+    int extraEnd = extra + extraLength;
+    while (extra + 4 <= extraEnd) {
+      int id = unsignedShort(directory, extra);
+      int length = unsignedShort(directory, extra + 2);
+      if (id == ZIP64_EXTRA_FIELD_ID) {
+        int field = extra + 4;
+        if (size == ZIP64_MAGIC) {
+          size = directory.getLong(field);
+          field += 8;
+        }
+        if (compressedSize == ZIP64_MAGIC) {
+          compressedSize = directory.getLong(field);
+          field += 8;
+        }
+        if (localHeaderOffset == ZIP64_MAGIC) {
+          localHeaderOffset = directory.getLong(field);
+        }
+        break;
+      }
+      extra += 4 + length;
+    }
+
+    if ((flags & FLAG_ENCRYPTED) != 0) {
+      throw new ZipException("Encrypted entry " + name + " is not supported");
+    }
+    if (method != STORED && method != DEFLATED) {
+      throw new ZipException("Unsupported compression method of entry " + name);
+    }
+    return new Entry(name, method, crc, size, compressedSize, localHeaderOffset);
+  }
+
+  private long findEndOfCentralDirectory(long size) throws IOException {
+    if (size < END_OF_CENTRAL_DIRECTORY_LENGTH) {
+      throw new ZipException("Zip archive is corrupted");
+    }
+    int tailLength = (int) Math.min(size, END_OF_CENTRAL_DIRECTORY_LENGTH + MAX_COMMENT_LENGTH);
+    long tailOffset = size - tailLength;
+    ByteBuffer tail = read(tailOffset, tailLength);
+    for (int i = tailLength - END_OF_CENTRAL_DIRECTORY_LENGTH; i >= 0; i--) {
+      if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+        return tailOffset + i;
+      }
+    }
+    throw new ZipException("Zip archive is corrupted");
+  }
+
+  private ByteBuffer read(long position, int length) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new EOFException("Unexpected end of zip archive");
+      }
+    }
+    return buffer.flip();
+  }
+
+  private static int unsignedShort(ByteBuffer buffer, int index) {
+    return Short.toUnsignedInt(buffer.getShort(index));
+  }
+
+  private static long unsignedInt(ByteBuffer buffer, int index) {
+    return Integer.toUnsignedLong(buffer.getInt(index));
+  }
+
+  /**
+   * Central directory record of an archive entry.
+   */
+  public static class Entry {
+
+    private final String name;
+    private final int method;
+    private final long crc;
+    private final long size;
+    private final long compressedSize;
+    private final long localHeaderOffset;
+
+    private Entry(String name, int method, long crc, long size, long compressedSize,
+        long localHeaderOffset) {
+      this.name = name;
+      this.method = method;
+      this.crc = crc;
+      this.size = size;
+      this.compressedSize = compressedSize;
+      this.localHeaderOffset = localHeaderOffset;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public boolean isDirectory() {
+      return name.endsWith("/");
+    }
+
+    public long getSize() {
+      return size;
+    }
+
+    public long getCompressedSize() {
+      return compressedSize;
+    }
+
+    public long getLocalHeaderOffset() {
+      return localHeaderOffset;
+    }
+  }
+
+  /*
+   * Compressed data of an entry, handed out in chunks read with positional reads
+   */
+  private class EntryData {
+
+    private final ByteBuffer buffer;
+    private long position;
+    private long remaining;
+
+    EntryData(long position, long length) {
+      this.buffer = ByteBuffer.allocate((int) Math.min(length, READ_BUFFER_SIZE));
+      this.position = position;
+      this.remaining = length;
+    }
+
+    /**
+     * @return next chunk of the data, or {@code null} at the end
+     */
+    ByteBuffer next() throws IOException {
+      if (remaining == 0) {
+        return null;
+      }
+      buffer.clear().limit((int) Math.min(buffer.capacity(), remaining));
+      while (buffer.hasRemaining()) {
+        int read = channel.read(buffer, position);
+        if (read < 0) {
+          throw new EOFException("Unexpected end of zip archive");
+        }
+        position += read;
+      }
+      remaining -= buffer.position();
+      return buffer.flip();
+    }
+  }
+
+  /*
+   * Stored or inflated content of an entry, its CRC and size are verified at the end
+   */
+  private static class EntryInputStream extends InputStream {
+
+    private final Entry entry;
+    private final EntryData data;
+    private final Inflater inflater;
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer chunk;
+    private long count;
+    private boolean dummyByteSupplied;
+    private boolean eof;
+    private boolean closed;
+
+    EntryInputStream(Entry entry, EntryData data) {
+      this.entry = entry;
+      this.data = data;
+      this.inflater = entry.method == DEFLATED ? new Inflater(true) : null;
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] b = new byte[1];
+      return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (closed) {
+        throw new IOException("Stream closed");
+      }
+      if (len == 0) {
+        return 0;
+      }
+      if (eof) {
+        return -1;
+      }
+      int read = inflater == null ? readStored(b, off, len) : inflate(b, off, len);
+      if (read == -1) {
+        eof = true;
+        verify();
+        return -1;
+      }
+      crc.update(b, off, read);
+      count += read;
+      return read;
+    }
+
+    private int readStored(byte[] b, int off, int len) throws IOException {
+      while (chunk == null || !chunk.hasRemaining()) {
+        if ((chunk = data.next()) == null) {
+          return -1;
+        }
+      }
+      int read = Math.min(len, chunk.remaining());
+      chunk.get(b, off, read);
+      return read;
+    }
+
+    private int inflate(byte[] b, int off, int len) throws IOException {
+      try {
+        int read;
+        while ((read = inflater.inflate(b, off, len)) == 0) {
+          if (inflater.finished()) {
+            return -1;
+          }
+          if (inflater.needsDictionary()) {
+            throw new ZipException("Invalid deflated data of entry " + entry.name);
+          }
+          if (inflater.needsInput()) {
+            ByteBuffer next = data.next();
+            if (next != null) {
+              inflater.setInput(next);
+            } else if (!dummyByteSupplied) {
+              // raw inflate may need an extra byte past the end of the data to finish
+              inflater.setInput(new byte[1]);
+              dummyByteSupplied = true;
+            } else {
+              throw new EOFException("Unexpected end of entry " + entry.name);
+            }
+          }
+        }
+        return read;
+      } catch (DataFormatException e) {
+        throw new ZipException(
+            "Invalid deflated data of entry " + entry.name + ": " + e.getMessage());
+      }
+    }
+
+    private void verify() throws ZipException {
+      if (count != entry.size) {
+        throw new ZipException("Invalid size of entry " + entry.name + ": expected "
+            + entry.size + " but got " + count + " bytes");
+      }
+      if (crc.getValue() != entry.crc) {
+        throw new ZipException("Invalid CRC of entry " + entry.name);
+      }
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        if (inflater != null) {
+          inflater.end();
+        }
+      }
+    }
+  }
+}
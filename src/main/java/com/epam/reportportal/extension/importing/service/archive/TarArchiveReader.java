@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service.archive;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streaming reader of tar archives: ustar, GNU long names and PAX path/size records. Entries
+ * are read one by one from the underlying stream, an entry content has to be consumed before
+ * the next entry is requested, the rest of it is skipped otherwise.
+ */
+public class TarArchiveReader {
+
+  private static final int BLOCK_SIZE = 512;
+
+  private static final byte TYPE_FILE = '0';
+  private static final byte TYPE_FILE_OLD = 0;
+  private static final byte TYPE_CONTIGUOUS_FILE = '7';
+  private static final byte TYPE_DIRECTORY = '5';
+  private static final byte TYPE_GNU_LONG_NAME = 'L';
+  private static final byte TYPE_PAX_HEADER = 'x';
+
+  private static final String PAX_PATH = "path";
+  private static final String PAX_SIZE = "size";
+
+  // long name and PAX records are small, anything larger is not a valid archive
+  private static final int MAX_METADATA_SIZE = 1024 * 1024;
+
+  private final InputStream inputStream;
+  private final byte[] header = new byte[BLOCK_SIZE];
+
+  private EntryInputStream current;
+
+  public TarArchiveReader(InputStream inputStream) {
+    this.inputStream = inputStream;
+  }
+
+  /**
+   * Moves to the next entry, skipping the rest of the current one.
+   *
+   * @return next entry or {@code null} if the end of the archive is reached
+   * @throws IOException if the archive can't be read or is corrupted
+   */
+  public Entry nextEntry() throws IOException {
+    if (current != null) {
+      current.skipRemaining();
+      skipFully(padding(current.size));
+      current = null;
+    }
+    String longName = null;
+    Long paxSize = null;
+    while (true) {
+      if (!readHeader()) {
+        return null;
+      }
+      byte type = header[156];
+      long headerSize = parseNumber(124, 12);
+      if (type == TYPE_GNU_LONG_NAME) {
+        longName = trimNul(new String(readMetadata(headerSize), StandardCharsets.UTF_8));
+      } else if (type == TYPE_PAX_HEADER) {
+        String paxRecords = new String(readMetadata(headerSize), StandardCharsets.UTF_8);
+        String paxPath = paxValue(paxRecords, PAX_PATH);
+        String paxSizeValue = paxValue(paxRecords, PAX_SIZE);
+        longName = paxPath != null ? paxPath : longName;
+        paxSize = paxSizeValue != null ? Long.valueOf(paxSizeValue) : paxSize;
+      } else if (type == TYPE_FILE || type == TYPE_FILE_OLD || type == TYPE_CONTIGUOUS_FILE
+          || type == TYPE_DIRECTORY) {
+        String name = longName != null ? longName : headerName();
+        long size = type == TYPE_DIRECTORY ? 0 : paxSize != null ? paxSize : headerSize;
+        current = new EntryInputStream(size);
+        return new Entry(name, type == TYPE_DIRECTORY, size, current);
+      } else {
+        // links, devices and global PAX headers carry nothing to import
+        skipFully(headerSize + padding(headerSize));
+        longName = null;
+        paxSize = null;
+      }
+    }
+  }
+
+  private boolean readHeader() throws IOException {
+    int read = inputStream.readNBytes(header, 0, BLOCK_SIZE);
+    if (read == 0) {
+      return false;
+    }
+    if (read < BLOCK_SIZE) {
+      throw new EOFException("Unexpected end of tar archive");
+    }
+    if (isZeroBlock()) {
+      // end of archive marker
+      return false;
+    }
+    verifyChecksum();
+    return true;
+  }
+
+  private boolean isZeroBlock() {
+    for (byte b : header) {
+      if (b != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void verifyChecksum() throws IOException {
+    long expected = parseNumber(148, 8);
+    long actual = 0;
+    for (int i = 0; i < BLOCK_SIZE; i++) {
+      // checksum field itself is counted as spaces
+      actual += i >= 148 && i < 156 ? ' ' : header[i] & 0xFF;
+    }
+    if (expected != actual) {
+      throw new IOException("Tar archive is corrupted");
+    }
+  }
+
+  private String headerName() {
+    String name = field(0, 100);
+    // ustar splits long names into prefix and name
+    if (field(257, 5).equals("ustar")) {
+      String prefix = field(345, 155);
+      if (!prefix.isEmpty()) {
+        return prefix + "/" + name;
+      }
+    }
+    return name;
+  }
+
+  private byte[] readMetadata(long size) throws IOException {
+    if (size > MAX_METADATA_SIZE) {
+      throw new IOException("Tar archive is corrupted");
+    }
+    byte[] data = new byte[(int) size];
+    if (inputStream.readNBytes(data, 0, data.length) < data.length) {
+      throw new EOFException("Unexpected end of tar archive");
+    }
+    skipFully(padding(size));
+    return data;
+  }
+
+  /*
+   * PAX records are "<length> <key>=<value>\n"
+   */
+  private static String paxValue(String records, String key) {
+    int position = 0;
+    String result = null;
+    while (position < records.length()) {
+      int space = records.indexOf(' ', position);
+      if (space < 0) {
+        break;
+      }
+      int length = Integer.parseInt(records.substring(position, space));
+      String record = records.substring(space + 1, position + length - 1);
+      int separator = record.indexOf('=');
+      if (separator > 0 && record.substring(0, separator).equals(key)) {
+        result = record.substring(separator + 1);
+      }
+      position += length;
+    }
+    return result;
+  }
+
+  /*
+   * Numbers are NUL or space terminated octal strings, GNU tar stores large ones as base-256
+   * with the high bit of the first byte set
+   */
+  private long parseNumber(int offset, int length) throws IOException {
+    if ((header[offset] & 0x80) != 0) {
+      long value = header[offset] & 0x7F;
+      for (int i = 1; i < length; i++) {
+        value = (value << 8) | (header[offset + i] & 0xFF);
+      }
+      return value;
+    }
+    long value = 0;
+    for (int i = offset; i < offset + length; i++) {
+      byte b = header[i];
+      if (b == 0 || (b == ' ' && value > 0)) {
+        break;
+      }
+      if (b == ' ') {
+        continue;
+      }
+      if (b < '0' || b > '7') {
+        throw new IOException("Tar archive is corrupted");
+      }
+      value = (value << 3) + (b - '0');
+    }
+    return value;
+  }
+
+  private String field(int offset, int length) {
+    int end = offset;
+    while (end < offset + length && header[end] != 0) {
+      end++;
+    }
+    return new String(header, offset, end - offset, StandardCharsets.UTF_8);
+  }
+
+  private void skipFully(long count) throws IOException {
+    long remaining = count;
+    while (remaining > 0) {
+      long skipped = inputStream.skip(remaining);
+      if (skipped <= 0) {
+        if (inputStream.read() < 0) {
+          throw new EOFException("Unexpected end of tar archive");
+        }
+        skipped = 1;
+      }
+      remaining -= skipped;
+    }
+  }
+
+  private static long padding(long size) {
+    return (BLOCK_SIZE - size % BLOCK_SIZE) % BLOCK_SIZE;
+  }
+
+  private static String trimNul(String value) {
+    int end = value.indexOf('\0');
+    return end < 0 ? value : value.substring(0, end);
+  }
+
+  /**
+   * Archive entry with its content.
+   */
+  public static class Entry {
+
+    private final String name;
+    private final boolean directory;
+    private final long size;
+    private final InputStream inputStream;
+
+    private Entry(String name, boolean directory, long size, InputStream inputStream) {
+      this.name = name;
+      this.directory = directory;
+      this.size = size;
+      this.inputStream = inputStream;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public boolean isDirectory() {
+      return directory;
+    }
+
+    public long getSize() {
+      return size;
+    }
+
+    /**
+     * @return entry content, valid until the next entry is requested. Closing it doesn't
+     * close the archive
+     */
+    public InputStream getInputStream() {
+      return inputStream;
+    }
+  }
+
+  private class EntryInputStream extends InputStream {
+
+    private final long size;
+    private long remaining;
+
+    EntryInputStream(long size) {
+      this.size = size;
+      this.remaining = size;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (remaining <= 0) {
+        return -1;
+      }
+      int b = inputStream.read();
+      if (b < 0) {
+        throw new EOFException("Unexpected end of tar archive");
+      }
+      remaining--;
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (remaining <= 0) {
+        return -1;
+      }
+      int count = inputStream.read(b, off, (int) Math.min(len, remaining));
+      if (count < 0) {
+        throw new EOFException("Unexpected end of tar archive");
+      }
+      remaining -= count;
+      return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+      return (int) Math.min(remaining, inputStream.available());
+    }
+
+    void skipRemaining() throws IOException {
+      skipFully(remaining);
+      remaining = 0;
+    }
+
+    @Override
+    public void close() {
+      // the archive stays open, the rest of the entry is skipped with the next entry
+    }
+  }
+}
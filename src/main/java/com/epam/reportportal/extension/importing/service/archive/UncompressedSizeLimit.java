@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.input.ProxyInputStream;
+
+/**
+ * Budget of uncompressed bytes shared by all the entries of an archive, including entries of
+ * nested archives and entries read by different threads.
+ */
+public class UncompressedSizeLimit {
+
+  private final long limit;
+
+  private final AtomicLong remaining;
+
+  public UncompressedSizeLimit(long limit) {
+    this.limit = limit;
+    this.remaining = new AtomicLong(limit);
+  }
+
+  /**
+   * @param inputStream uncompressed entry content
+   * @return stream failing with an {@link IOException} once the budget is exhausted
+   */
+  public InputStream wrap(InputStream inputStream) {
+    return new ProxyInputStream(inputStream) {
+      @Override
+      protected void afterRead(int n) throws IOException {
+        if (n > 0 && remaining.addAndGet(-n) < 0) {
+          throw new IOException("Uncompressed size of the archive is more than "
+              + FileUtils.byteCountToDisplaySize(limit) + ".");
+        }
+      }
+    };
+  }
+}
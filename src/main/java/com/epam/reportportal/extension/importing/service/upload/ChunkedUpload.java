@@ -0,0 +1,366 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service.upload;
+
+import com.epam.reportportal.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * File uploaded in chunks. Chunks are written to a spool file in the order of their offsets, a
+ * chunk may be resent after a failure, the bytes received already are skipped.
+ *
+ * <p>The upload is a {@link MultipartFile} of the declared size, so it's imported while it's
+ * being received: streams of the upload return the received prefix and wait for the rest, until
+ * the upload is completed. A stream fails once the upload is aborted or no bytes are received for
+ * the idle timeout, including a chunk that stalls in the middle.
+ */
+public class ChunkedUpload implements MultipartFile {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final String uploadId;
+  private final String projectName;
+  private final String originalFilename;
+  private final long size;
+  private final Path path;
+  private final Duration idleTimeout;
+
+  private volatile String launchUuid;
+
+  // a lock rather than a monitor, so a virtual thread waiting for chunks doesn't pin its carrier
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition receivedCondition = lock.newCondition();
+
+  // guarded by the lock
+  private long received;
+  private boolean appending;
+  private boolean completed;
+  private String abortMessage;
+  private Instant lastActivity = Instant.now();
+  // the spool file is removed once both the upload and the import release it
+  private int holders = 2;
+
+  ChunkedUpload(String uploadId, String projectName, String originalFilename, long size,
+      Path path, Duration idleTimeout) {
+    this.uploadId = uploadId;
+    this.projectName = projectName;
+    this.originalFilename = originalFilename;
+    this.size = size;
+    this.path = path;
+    this.idleTimeout = idleTimeout;
+  }
+
+  public String getUploadId() {
+    return uploadId;
+  }
+
+  public String getProjectName() {
+    return projectName;
+  }
+
+  public String getLaunchUuid() {
+    return launchUuid;
+  }
+
+  public void setLaunchUuid(String launchUuid) {
+    this.launchUuid = launchUuid;
+  }
+
+  public long getReceived() {
+    lock.lock();
+    try {
+      return received;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Appends a chunk to the upload.
+   *
+   * @param offset position of the chunk in the file, not beyond the received bytes
+   * @param chunk  content of the chunk
+   * @return number of the received bytes
+   * @throws IOException if the chunk can't be read or written
+   */
+  public long append(long offset, InputStream chunk) throws IOException {
+    long skip;
+    lock.lock();
+    try {
+      verifyActive();
+      if (appending) {
+        throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+            "Another chunk of upload " + uploadId + " is in progress");
+      }
+      if (offset < 0 || offset > received) {
+        throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+            "Chunk offset " + offset + " doesn't match " + received + " received bytes");
+      }
+      skip = received - offset;
+      appending = true;
+      lastActivity = Instant.now();
+    } finally {
+      lock.unlock();
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      byte[] buffer = new byte[BUFFER_SIZE];
+      for (int read; (read = chunk.read(buffer)) != -1; ) {
+        int start = (int) Math.min(skip, read);
+        skip -= start;
+        if (read > start) {
+          write(channel, ByteBuffer.wrap(buffer, start, read - start));
+        }
+      }
+      return getReceived();
+    } finally {
+      lock.lock();
+      try {
+        appending = false;
+        lastActivity = Instant.now();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /*
+   * writes at the received position rather than appending, so the bytes of a write that failed
+   * halfway are overwritten by the resent chunk
+   */
+  private void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+    long position;
+    lock.lock();
+    try {
+      verifyActive();
+      if (received + buffer.remaining() > size) {
+        throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+            "Upload " + uploadId + " is larger than the declared size " + size);
+      }
+      position = received;
+    } finally {
+      lock.unlock();
+    }
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+    lock.lock();
+    try {
+      received = position;
+      lastActivity = Instant.now();
+      receivedCondition.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void verifyActive() {
+    if (abortMessage != null) {
+      throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR, abortMessage);
+    }
+    if (completed) {
+      throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+          "Upload " + uploadId + " is completed already");
+    }
+  }
+
+  void complete() {
+    lock.lock();
+    try {
+      verifyActive();
+      if (received != size) {
+        throw new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+            received + " of " + size + " bytes of upload " + uploadId + " are received");
+      }
+      completed = true;
+      receivedCondition.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void abort(String message) {
+    lock.lock();
+    try {
+      if (!completed && abortMessage == null) {
+        abortMessage = message;
+        receivedCondition.signalAll();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /*
+   * a chunk that stalls in the middle is idle as well, the abort fails its next write
+   */
+  boolean isIdle(Instant now) {
+    lock.lock();
+    try {
+      return lastActivity.plus(idleTimeout).isBefore(now);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Releases the spool file, it's removed once it's released by both the upload and the import.
+   */
+  public void release() {
+    lock.lock();
+    try {
+      if (--holders > 0) {
+        return;
+      }
+    } finally {
+      lock.unlock();
+    }
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      // the file is left in the spool directory, it doesn't affect other uploads
+    }
+  }
+
+  /*
+   * waits until the bytes after the position are received, returns 0 at the end of the upload
+   */
+  private long awaitReceived(long position) throws IOException {
+    lock.lock();
+    try {
+      while (received <= position && !completed && abortMessage == null) {
+        Instant now = Instant.now();
+        if (isIdle(now)) {
+          abort("No chunks of upload " + uploadId + " are received for "
+              + idleTimeout.toMinutes() + " minutes");
+          break;
+        }
+        receivedCondition.await(
+            Math.max(Duration.between(now, lastActivity.plus(idleTimeout)).toMillis(), 0) + 1,
+            TimeUnit.MILLISECONDS);
+      }
+      if (abortMessage != null) {
+        throw new IOException(abortMessage);
+      }
+      return received - position;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Reading of upload " + uploadId + " is interrupted", e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public String getName() {
+    return "file";
+  }
+
+  @Override
+  public String getOriginalFilename() {
+    return originalFilename;
+  }
+
+  @Override
+  public String getContentType() {
+    return null;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public long getSize() {
+    return size;
+  }
+
+  @Override
+  public byte[] getBytes() throws IOException {
+    try (InputStream inputStream = getInputStream()) {
+      return inputStream.readAllBytes();
+    }
+  }
+
+  @Override
+  public InputStream getInputStream() throws IOException {
+    return new UploadInputStream(FileChannel.open(path, StandardOpenOption.READ));
+  }
+
+  @Override
+  public void transferTo(File dest) throws IOException {
+    try (InputStream inputStream = getInputStream()) {
+      Files.copy(inputStream, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /*
+   * Reads the spool file up to the received bytes
+   */
+  private class UploadInputStream extends InputStream {
+
+    private final FileChannel channel;
+
+    private long position;
+
+    UploadInputStream(FileChannel channel) {
+      this.channel = channel;
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] b = new byte[1];
+      return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      long available = awaitReceived(position);
+      if (available == 0) {
+        return -1;
+      }
+      int read = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, available)), position);
+      if (read > 0) {
+        position += read;
+      }
+      return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+  }
+}
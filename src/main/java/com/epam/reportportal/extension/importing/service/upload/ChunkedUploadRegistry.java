@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service.upload;
+
+import com.epam.reportportal.infrastructure.rules.exception.ErrorType;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps chunked uploads in progress by upload id. Uploads without chunks for the idle timeout
+ * are aborted and evicted.
+ */
+public class ChunkedUploadRegistry {
+
+  private final Map<String, ChunkedUpload> uploads = new ConcurrentHashMap<>();
+
+  private final Path spoolDirectory;
+
+  private final Duration idleTimeout;
+
+  public ChunkedUploadRegistry(Path spoolDirectory, Duration idleTimeout) {
+    this.spoolDirectory = spoolDirectory;
+    this.idleTimeout = idleTimeout;
+  }
+
+  public ChunkedUpload create(String projectName, String originalFilename, long size) {
+    evictIdle();
+    try {
+      Files.createDirectories(spoolDirectory);
+      Path path = Files.createTempFile(spoolDirectory, "junit-upload-", ".part");
+      ChunkedUpload upload = new ChunkedUpload(UUID.randomUUID().toString(), projectName,
+          originalFilename, size, path, idleTimeout);
+      uploads.put(upload.getUploadId(), upload);
+      return upload;
+    } catch (IOException e) {
+      throw new ReportPortalException("Error during creating upload spool file.", e);
+    }
+  }
+
+  /**
+   * @param uploadId    upload id
+   * @param projectName project of the upload
+   * @return upload in progress
+   * @throws ReportPortalException if the project doesn't have such an upload in progress
+   */
+  public ChunkedUpload get(String uploadId, String projectName) {
+    return Optional.ofNullable(uploads.get(uploadId))
+        .filter(it -> it.getProjectName().equals(projectName))
+        .orElseThrow(() -> new ReportPortalException(ErrorType.BAD_REQUEST_ERROR,
+            "Upload " + uploadId + " isn't found"));
+  }
+
+  public void complete(ChunkedUpload upload) {
+    upload.complete();
+    remove(upload);
+  }
+
+  public void abort(ChunkedUpload upload, String message) {
+    upload.abort(message);
+    remove(upload);
+  }
+
+  /**
+   * Aborts all the uploads, so the imports reading them are completed.
+   */
+  public void abortAll() {
+    uploads.values().forEach(it -> abort(it, "Upload " + it.getUploadId() + " is aborted"));
+  }
+
+  private void remove(ChunkedUpload upload) {
+    if (uploads.remove(upload.getUploadId(), upload)) {
+      upload.release();
+    }
+  }
+
+  private void evictIdle() {
+    Instant now = Instant.now();
+    uploads.values().stream().filter(it -> it.isIdle(now)).forEach(it -> abort(it,
+        "No chunks of upload " + it.getUploadId() + " are received for "
+            + idleTimeout.toMinutes() + " minutes"));
+  }
+}
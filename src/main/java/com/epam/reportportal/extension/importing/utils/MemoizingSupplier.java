@@ -35,4 +35,8 @@ public class MemoizingSupplier<T> implements Supplier<T> {
         return value;
     }
 
+    public boolean isInitialized() {
+        return initialized.get();
+    }
+
 }
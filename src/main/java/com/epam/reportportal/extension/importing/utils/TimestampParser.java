@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.utils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+
+/**
+ * Parser of test item timestamps. Supports epoch millis and date-time strings, the format of
+ * the first parsed value is remembered and tried first for the following ones, so a parser
+ * instance is supposed to be used for a single document.
+ *
+ * @see Format
+ */
+public class TimestampParser {
+
+  private static final DateTimeFormatter FORMATTER = new DateTimeFormatterBuilder()
+      .appendOptional(DateTimeFormatter.RFC_1123_DATE_TIME)
+      .appendOptional(DateTimeFormatter.ISO_OFFSET_DATE_TIME)
+      .appendOptional(DateTimeFormatter.ISO_LOCAL_DATE_TIME).optionalStart()
+      .appendOffsetId().appendZoneId().optionalEnd().optionalStart().appendLiteral(' ')
+      .parseCaseSensitive().appendZoneId().optionalEnd().toFormatter();
+
+  private static final Format[] FORMATS = Format.values();
+
+  private Format format;
+
+  /**
+   * Parses timestamp. Date-time values without an offset are considered to be in UTC.
+   *
+   * @param timestamp epoch millis or date-time string
+   * @return parsed {@link Instant}
+   * @throws java.time.DateTimeException if the timestamp can't be parsed
+   */
+  public Instant parse(String timestamp) {
+    // the formatter throws on mismatch, it's the last candidate anyway, so it isn't tried first
+    if (format != null && format != Format.FORMATTED) {
+      Instant instant = format.parse(timestamp);
+      if (instant != null) {
+        return instant;
+      }
+    }
+    for (Format candidate : FORMATS) {
+      Instant instant = candidate.parse(timestamp);
+      if (instant != null) {
+        format = candidate;
+        return instant;
+      }
+    }
+    // unreachable, the formatter either parses the value or throws
+    throw new IllegalStateException("Unable to parse timestamp " + timestamp);
+  }
+
+  /**
+   * Supported timestamp formats in order of detection.
+   */
+  enum Format {
+
+    // epoch millis
+    EPOCH_MILLIS {
+      @Override
+      Instant parse(String timestamp) {
+        return isLong(timestamp) ? Instant.ofEpochMilli(Long.parseLong(timestamp)) : null;
+      }
+    },
+
+    // yyyy-MM-ddTHH:mm:ss[.fraction][Z|+HH:MM|-HH:MM], parsed without the formatter
+    ISO_DATE_TIME {
+      @Override
+      Instant parse(String timestamp) {
+        return parseIsoDateTime(timestamp);
+      }
+    },
+
+    // everything else supported by the formatter, the only format that throws on mismatch
+    FORMATTED {
+      @Override
+      Instant parse(String timestamp) {
+        TemporalAccessor temporalAccessor = FORMATTER.parse(timestamp);
+        if (temporalAccessor.query(TemporalQueries.offset()) != null) {
+          return ZonedDateTime.from(temporalAccessor).withZoneSameInstant(ZoneOffset.UTC)
+              .toInstant();
+        }
+        return LocalDateTime.from(temporalAccessor).toInstant(ZoneOffset.UTC);
+      }
+    };
+
+    /**
+     * @param timestamp timestamp
+     * @return parsed {@link Instant} or {@code null} if the value is not of this format
+     */
+    abstract Instant parse(String timestamp);
+  }
+
+  private static boolean isLong(String value) {
+    int length = value.length();
+    int start = length > 1 && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+    // 18 digits always fit into long
+    if (length == start || length - start > 18) {
+      return false;
+    }
+    for (int i = start; i < length; i++) {
+      if (!isDigit(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Instant parseIsoDateTime(String value) {
+    int length = value.length();
+    if (length < 19 || value.charAt(4) != '-' || value.charAt(7) != '-'
+        || value.charAt(10) != 'T' || value.charAt(13) != ':' || value.charAt(16) != ':') {
+      return null;
+    }
+    int year = digits(value, 0, 4);
+    int month = digits(value, 5, 2);
+    int day = digits(value, 8, 2);
+    int hour = digits(value, 11, 2);
+    int minute = digits(value, 14, 2);
+    int second = digits(value, 17, 2);
+    if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31 || hour < 0 || hour > 23
+        || minute < 0 || minute > 59 || second < 0 || second > 59) {
+      return null;
+    }
+
+    int position = 19;
+    int nanos = 0;
+    if (position < length && value.charAt(position) == '.') {
+      int fractionStart = ++position;
+      while (position < length && isDigit(value.charAt(position))) {
+        position++;
+      }
+      int fractionLength = position - fractionStart;
+      if (fractionLength == 0 || fractionLength > 9) {
+        return null;
+      }
+      nanos = digits(value, fractionStart, fractionLength);
+      for (int i = fractionLength; i < 9; i++) {
+        nanos *= 10;
+      }
+    }
+
+    int offsetSeconds = 0;
+    if (position < length) {
+      char sign = value.charAt(position);
+      if (sign == 'Z' && position + 1 == length) {
+        offsetSeconds = 0;
+      } else if ((sign == '+' || sign == '-') && position + 6 == length
+          && value.charAt(position + 3) == ':') {
+        int offsetHours = digits(value, position + 1, 2);
+        int offsetMinutes = digits(value, position + 4, 2);
+        if (offsetHours < 0 || offsetHours > 18 || offsetMinutes < 0 || offsetMinutes > 59) {
+          return null;
+        }
+        offsetSeconds = (offsetHours * 3600 + offsetMinutes * 60) * (sign == '-' ? -1 : 1);
+      } else {
+        return null;
+      }
+    }
+
+    if (day > 28 && day > LocalDate.of(year, month, 1).lengthOfMonth()) {
+      return null;
+    }
+    long epochSecond = LocalDate.of(year, month, day).toEpochDay() * 86400L
+        + hour * 3600L + minute * 60L + second - offsetSeconds;
+    return Instant.ofEpochSecond(epochSecond, nanos);
+  }
+
+  /**
+   * @return parsed non-negative number or -1 if the range contains anything but digits
+   */
+  private static int digits(String value, int start, int length) {
+    int result = 0;
+    for (int i = start; i < start + length; i++) {
+      char c = value.charAt(i);
+      if (!isDigit(c)) {
+        return -1;
+      }
+      result = result * 10 + (c - '0');
+    }
+    return result;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+}
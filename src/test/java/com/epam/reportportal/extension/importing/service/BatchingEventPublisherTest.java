@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BatchingEventPublisherTest {
+
+  private final List<Object> published = new ArrayList<>();
+
+  private final List<Integer> batchSizes = new ArrayList<>();
+
+  @Test
+  void batchIsFlushedAtEventLimit() {
+    BatchingEventPublisher publisher = publisher(3, Long.MAX_VALUE);
+
+    publisher.publishEvent("first");
+    publisher.publishEvent("second");
+    assertTrue(published.isEmpty());
+
+    publisher.publishEvent("third");
+    assertEquals(List.of("first", "second", "third"), published);
+    assertEquals(List.of(3), batchSizes);
+  }
+
+  @Test
+  void batchIsFlushedAtByteLimit() {
+    BatchingEventPublisher publisher = publisher(100, 2000);
+
+    publisher.publishEvent("first", 1000);
+    assertTrue(published.isEmpty());
+
+    publisher.publishEvent("second", 1000);
+    assertEquals(List.of("first", "second"), published);
+
+    // the byte count starts over with the next batch
+    publisher.publishEvent("third", 1000);
+    assertEquals(List.of(2), batchSizes);
+  }
+
+  @Test
+  void eventsArePublishedInOrder() {
+    BatchingEventPublisher publisher = publisher(3, Long.MAX_VALUE);
+    List<Object> events = IntStream.range(0, 10).boxed().map(Object.class::cast).toList();
+
+    events.forEach(publisher::publishEvent);
+    publisher.flush();
+
+    assertEquals(events, published);
+    assertEquals(List.of(3, 3, 3, 1), batchSizes);
+  }
+
+  @Test
+  void flushWithoutEventsDoesNothing() {
+    BatchingEventPublisher publisher = publisher(3, Long.MAX_VALUE);
+
+    publisher.flush();
+
+    assertTrue(batchSizes.isEmpty());
+  }
+
+  @Test
+  void eventsAreClearedWhenBatchFails() {
+    AtomicInteger batches = new AtomicInteger();
+    BatchingEventPublisher publisher = new BatchingEventPublisher(published::add, batch -> {
+      // the first batch is rolled back
+      if (batches.getAndIncrement() == 0) {
+        throw new IllegalStateException("Rolled back");
+      }
+      batch.run();
+    }, 100, 2000);
+
+    publisher.publishEvent("failed", 1000);
+    assertThrows(IllegalStateException.class, publisher::flush);
+
+    // neither the events nor the bytes of the failed batch are carried over
+    publisher.publishEvent("next", 1000);
+    assertTrue(published.isEmpty());
+    publisher.flush();
+    assertEquals(List.of("next"), published);
+  }
+
+  private BatchingEventPublisher publisher(int maxEvents, long maxBytes) {
+    return new BatchingEventPublisher(published::add, batch -> {
+      int before = published.size();
+      batch.run();
+      batchSizes.add(published.size() - before);
+    }, maxEvents, maxBytes);
+  }
+}
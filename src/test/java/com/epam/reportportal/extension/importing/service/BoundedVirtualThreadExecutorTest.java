@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class BoundedVirtualThreadExecutorTest {
+
+  private static final long TIMEOUT_SECONDS = 10;
+
+  @Test
+  void tasksBeyondLimitWaitForPermit() throws Exception {
+    BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test", 2);
+    CountDownLatch gate = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(2);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    try {
+      Future<?>[] futures = new Future<?>[6];
+      for (int i = 0; i < futures.length; i++) {
+        futures[i] = executor.submit(() -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          started.countDown();
+          try {
+            gate.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          running.decrementAndGet();
+        });
+      }
+      assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+      gate.countDown();
+      for (Future<?> future : futures) {
+        future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(2, maxRunning.get());
+  }
+
+  @Test
+  void shutdownNowCancelsQueuedTasks() throws Exception {
+    BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test", 1);
+    CountDownLatch started = new CountDownLatch(1);
+    AtomicBoolean queuedTaskRun = new AtomicBoolean();
+    Future<?> running = executor.submit(() -> {
+      started.countDown();
+      // interrupted by the shutdown
+      new CountDownLatch(1).await();
+      return null;
+    });
+    assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    Future<?> queued = executor.submit(() -> queuedTaskRun.set(true));
+
+    executor.shutdownNow();
+
+    assertTrue(executor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    assertThrows(CancellationException.class, queued::get);
+    assertFalse(queuedTaskRun.get());
+    assertTrue(running.isDone());
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import org.springframework.web.multipart.MultipartFile;
+
+/*
+ * In-memory upload of the imported file
+ */
+class ByteArrayMultipartFile implements MultipartFile {
+
+  private final String originalFilename;
+
+  private final byte[] content;
+
+  ByteArrayMultipartFile(String originalFilename, byte[] content) {
+    this.originalFilename = originalFilename;
+    this.content = content;
+  }
+
+  @Override
+  public String getName() {
+    return "file";
+  }
+
+  @Override
+  public String getOriginalFilename() {
+    return originalFilename;
+  }
+
+  @Override
+  public String getContentType() {
+    return null;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return content.length == 0;
+  }
+
+  @Override
+  public long getSize() {
+    return content.length;
+  }
+
+  @Override
+  public byte[] getBytes() {
+    return content.clone();
+  }
+
+  @Override
+  public InputStream getInputStream() {
+    return new ByteArrayInputStream(content);
+  }
+
+  @Override
+  public void transferTo(File dest) throws IOException {
+    Files.write(dest.toPath(), content);
+  }
+}
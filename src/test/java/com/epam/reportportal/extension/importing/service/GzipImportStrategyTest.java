@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import static com.epam.reportportal.extension.importing.service.TarImportStrategyTest.gzip;
+import static com.epam.reportportal.extension.importing.service.TarImportStrategyTest.report;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import com.epam.reportportal.extension.importing.model.LaunchImportRQ;
+import com.epam.reportportal.infrastructure.events.FinishLaunchRqEvent;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+class GzipImportStrategyTest {
+
+  private final List<Object> events = new CopyOnWriteArrayList<>();
+
+  private final RecordingLaunchUpdater launchUpdater = new RecordingLaunchUpdater();
+
+  private final ImportProperties importProperties = new ImportProperties();
+
+  @Test
+  void importsCompressedReport() throws IOException {
+    importLaunch(gzip(report(10)));
+
+    assertTrue(events.stream().anyMatch(FinishLaunchRqEvent.class::isInstance));
+  }
+
+  @Test
+  void reportOverUncompressedSizeIsRejected() throws IOException {
+    importProperties.setArchiveMaxUncompressedSize(4 * 1024);
+    byte[] report = gzip(report(1000));
+
+    assertThrows(ReportPortalException.class, () -> importLaunch(report));
+    assertEquals(List.of("launch"), launchUpdater.getInterrupted());
+  }
+
+  private void importLaunch(byte[] report) {
+    importProperties.setPublishPipelineCapacity(0);
+    XunitParseService parseService = new XunitParseService(events::add, importProperties,
+        Runnable::run, () -> null, ImportMetrics.noop());
+    new GzipImportStrategy(events::add, launchUpdater, parseService, importProperties)
+        .importLaunch(new ByteArrayMultipartFile("report.xml.gz", report), "project",
+            new LaunchImportRQ(), new ImportProgress("launch", "project", "gz"));
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ImportSchedulerTest {
+
+  private static final long TIMEOUT_SECONDS = 10;
+
+  private final CountDownLatch gate = new CountDownLatch(1);
+
+  private ImportScheduler scheduler;
+
+  @AfterEach
+  void shutdown() {
+    gate.countDown();
+    scheduler.shutdown();
+  }
+
+  @Test
+  void queuedImportsOfProjectDoNotBlockAnotherProject() throws Exception {
+    scheduler = new ImportScheduler(2, 1, 8, 8, ImportThreadType.PLATFORM);
+    List<CompletableFuture<Void>> blocked = List.of(
+        scheduler.reserve("a").execute(this::awaitGate),
+        scheduler.reserve("a").execute(this::awaitGate),
+        scheduler.reserve("a").execute(this::awaitGate));
+
+    // the only thread of project "a" is taken, the free one goes to project "b"
+    scheduler.reserve("b").execute(() -> {
+    }).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    blocked.forEach(completion -> assertFalse(completion.isDone()));
+    gate.countDown();
+    CompletableFuture.allOf(blocked.toArray(CompletableFuture[]::new))
+        .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void queuedImportsAreTakenFromProjectsInTurn() throws Exception {
+    scheduler = new ImportScheduler(1, 1, 8, 8, ImportThreadType.PLATFORM);
+    List<String> order = new CopyOnWriteArrayList<>();
+    scheduler.reserve("c").execute(this::awaitGate);
+    // queued while the only thread is taken
+    List<CompletableFuture<Void>> queued = List.of(
+        scheduler.reserve("a").execute(() -> order.add("a1")),
+        scheduler.reserve("a").execute(() -> order.add("a2")),
+        scheduler.reserve("a").execute(() -> order.add("a3")),
+        scheduler.reserve("b").execute(() -> order.add("b1")));
+
+    gate.countDown();
+    CompletableFuture.allOf(queued.toArray(CompletableFuture[]::new))
+        .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    assertEquals(List.of("a1", "b1", "a2", "a3"), order);
+  }
+
+  @Test
+  void projectCannotTakeSlotsOfOtherProjects() {
+    scheduler = new ImportScheduler(2, 1, 8, 2, ImportThreadType.PLATFORM);
+    for (int i = 0; i < 3; i++) {
+      scheduler.reserve("a");
+    }
+
+    assertThrows(ReportPortalException.class, () -> scheduler.reserve("a"));
+    scheduler.reserve("b");
+  }
+
+  @Test
+  void importIsRejectedWhenAllSlotsAreTaken() {
+    scheduler = new ImportScheduler(1, 1, 1, 8, ImportThreadType.PLATFORM);
+    scheduler.reserve("a");
+    scheduler.reserve("b").cancel();
+    scheduler.reserve("b");
+
+    assertThrows(ReportPortalException.class, () -> scheduler.reserve("c"));
+  }
+
+  private void awaitGate() {
+    try {
+      gate.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
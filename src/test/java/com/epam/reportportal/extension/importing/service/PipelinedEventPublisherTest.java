@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PipelinedEventPublisherTest {
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void eventsArePublishedInOrder() {
+    List<Object> published = new CopyOnWriteArrayList<>();
+    List<Integer> events = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+    // a small buffer makes the parsing thread wait for space over and over
+    try (PipelinedEventPublisher publisher = new PipelinedEventPublisher(published::add, 4,
+        executor)) {
+      events.forEach(publisher::publishEvent);
+    }
+
+    assertEquals(events, published);
+  }
+
+  @Test
+  void bufferedEventsAreDrainedOnClose() {
+    List<Object> published = new CopyOnWriteArrayList<>();
+    List<Runnable> tasks = new ArrayList<>();
+
+    PipelinedEventPublisher publisher = new PipelinedEventPublisher(published::add, 8, tasks::add);
+    for (int i = 0; i < 5; i++) {
+      publisher.publishEvent(i);
+    }
+    assertTrue(published.isEmpty());
+
+    // the publishing task starts only after the parsing thread is done
+    executor.execute(tasks.get(0));
+    publisher.close();
+
+    assertEquals(List.of(0, 1, 2, 3, 4), published);
+  }
+
+  @Test
+  void publishingFailureIsRethrownToParsingThread() {
+    IllegalStateException failure = new IllegalStateException("persisting failed");
+    PipelinedEventPublisher publisher = new PipelinedEventPublisher(event -> {
+      if (event.equals(3)) {
+        throw failure;
+      }
+    }, 4, executor);
+
+    IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> {
+      try (publisher) {
+        for (int i = 0; i < 10_000; i++) {
+          publisher.publishEvent(i);
+        }
+      }
+    });
+
+    assertSame(failure, thrown);
+  }
+
+  @Test
+  void cancelledPublishingTaskReleasesParsingThread() {
+    List<Object> published = new CopyOnWriteArrayList<>();
+    // the executor drops the task before it's started, as on its shutdown
+    PipelinedEventPublisher publisher = new PipelinedEventPublisher(published::add, 2,
+        task -> ((Future<?>) task).cancel(false));
+
+    assertThrows(IllegalStateException.class, () -> {
+      try (publisher) {
+        for (int i = 0; i < 10; i++) {
+          publisher.publishEvent(i);
+        }
+      }
+    });
+    assertTrue(published.isEmpty());
+  }
+
+  @Test
+  void queuedPublishingTaskIsCancelledOnPlatformPoolShutdown() throws Exception {
+    ExecutorService platformPool = ImportThreadType.PLATFORM.newExecutor("test-publish", 1);
+    CountDownLatch poolTaken = new CountDownLatch(1);
+    // the only thread of the pool is taken, so the publishing task stays queued
+    platformPool.execute(() -> {
+      poolTaken.countDown();
+      try {
+        new CountDownLatch(1).await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    assertTrue(poolTaken.await(10, TimeUnit.SECONDS));
+    AtomicReference<Throwable> thrown = new AtomicReference<>();
+    Thread parsingThread = new Thread(() -> {
+      try (PipelinedEventPublisher publisher = new PipelinedEventPublisher(event -> {
+      }, 2, platformPool)) {
+        for (int i = 0; i < 10; i++) {
+          publisher.publishEvent(i);
+        }
+      } catch (Throwable e) {
+        thrown.set(e);
+      }
+    });
+    parsingThread.start();
+    // the parsing thread waits for space in the full buffer
+    while (parsingThread.getState() != Thread.State.WAITING && parsingThread.isAlive()) {
+      Thread.sleep(1);
+    }
+
+    platformPool.shutdownNow();
+    parsingThread.join(10_000);
+
+    assertFalse(parsingThread.isAlive());
+    assertTrue(thrown.get() instanceof IllegalStateException);
+  }
+
+  @Test
+  void publishingFailureIsRethrownOnClose() {
+    IllegalStateException failure = new IllegalStateException("persisting failed");
+    PipelinedEventPublisher publisher = new PipelinedEventPublisher(event -> {
+      throw failure;
+    }, 4, executor);
+    publisher.publishEvent(0);
+
+    assertSame(failure, assertThrows(IllegalStateException.class, publisher::close));
+    // the failure is reported once only
+    publisher.close();
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/*
+ * Records the launches interrupted by failed imports
+ */
+class RecordingLaunchUpdater implements LaunchUpdater {
+
+  private final List<String> interrupted = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void updateStartTime(String launchUuid, Instant startTime) {
+  }
+
+  @Override
+  public void interrupt(String launchUuid, Instant startTime) {
+    interrupted.add(launchUuid);
+  }
+
+  List<String> getInterrupted() {
+    return interrupted;
+  }
+}
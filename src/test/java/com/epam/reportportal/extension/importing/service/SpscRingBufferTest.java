@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class SpscRingBufferTest {
+
+  @Test
+  void capacityIsRoundedUpToPowerOfTwo() {
+    assertEquals(2, new SpscRingBuffer<>(0).capacity());
+    assertEquals(8, new SpscRingBuffer<>(5).capacity());
+    assertEquals(8, new SpscRingBuffer<>(8).capacity());
+  }
+
+  @Test
+  void offerFailsWhenFull() {
+    SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(4);
+    for (int i = 0; i < 4; i++) {
+      assertTrue(buffer.offer(i));
+    }
+    assertFalse(buffer.offer(4));
+
+    assertEquals(0, buffer.poll());
+    assertTrue(buffer.offer(4));
+    assertFalse(buffer.offer(5));
+  }
+
+  @Test
+  void pollReturnsNullWhenEmpty() {
+    SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(4);
+    assertTrue(buffer.isEmpty());
+    assertNull(buffer.poll());
+
+    buffer.offer(1);
+    assertFalse(buffer.isEmpty());
+    assertEquals(1, buffer.poll());
+    assertTrue(buffer.isEmpty());
+    assertNull(buffer.poll());
+  }
+
+  @Test
+  void elementsArePolledInOrderAcrossWrapAround() {
+    SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(4);
+    int next = 0;
+    int expected = 0;
+    // the indexes wrap around the array many times with a varying fill level
+    for (int round = 0; round < 100; round++) {
+      int toOffer = round % 4 + 1;
+      for (int i = 0; i < toOffer; i++) {
+        assertTrue(buffer.offer(next++));
+      }
+      for (int i = 0; i < toOffer; i++) {
+        assertEquals(expected++, buffer.poll());
+      }
+      assertTrue(buffer.isEmpty());
+    }
+  }
+
+  @Test
+  void elementsArePolledInOrderByAnotherThread() throws InterruptedException {
+    SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(16);
+    int count = 10_000;
+    int[] received = new int[1];
+    Thread consumer = new Thread(() -> {
+      int expected = 0;
+      while (expected < count) {
+        Integer element = buffer.poll();
+        if (element == null) {
+          Thread.yield();
+        } else if (element == expected) {
+          expected++;
+        } else {
+          break;
+        }
+      }
+      received[0] = expected;
+    });
+    consumer.start();
+    for (int i = 0; i < count; i++) {
+      while (!buffer.offer(i)) {
+        Thread.yield();
+      }
+    }
+    consumer.join(30_000);
+
+    assertEquals(count, received[0]);
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.TAR_EXTENSION;
+import static com.epam.reportportal.extension.importing.service.FileExtensionConstant.TGZ_EXTENSION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import com.epam.reportportal.extension.importing.model.LaunchImportRQ;
+import com.epam.reportportal.infrastructure.events.FinishLaunchRqEvent;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+
+class TarImportStrategyTest {
+
+  private static final int BLOCK_SIZE = 512;
+
+  private final List<Object> events = new CopyOnWriteArrayList<>();
+
+  private final RecordingLaunchUpdater launchUpdater = new RecordingLaunchUpdater();
+
+  private final ImportProperties importProperties = new ImportProperties();
+
+  @Test
+  void importsReportsOfCompressedArchive() throws IOException {
+    String launchUuid = importLaunch(TGZ_EXTENSION, gzip(tar(report(10))));
+
+    assertEquals("launch", launchUuid);
+    assertTrue(events.stream().anyMatch(FinishLaunchRqEvent.class::isInstance));
+  }
+
+  @Test
+  void compressedArchiveOverUncompressedSizeIsRejected() throws IOException {
+    importProperties.setArchiveMaxUncompressedSize(4 * 1024);
+    byte[] archive = gzip(tar(report(1000)));
+
+    assertThrows(ReportPortalException.class, () -> importLaunch(TGZ_EXTENSION, archive));
+    assertEquals(List.of("launch"), launchUpdater.getInterrupted());
+  }
+
+  @Test
+  void archiveOverUncompressedSizeIsRejected() {
+    importProperties.setArchiveMaxUncompressedSize(4 * 1024);
+    byte[] archive = tar(report(1000));
+
+    assertThrows(ReportPortalException.class, () -> importLaunch(TAR_EXTENSION, archive));
+  }
+
+  private String importLaunch(String extension, byte[] archive) {
+    importProperties.setPublishPipelineCapacity(0);
+    XunitParseService parseService = new XunitParseService(events::add, importProperties,
+        Runnable::run, () -> null, ImportMetrics.noop());
+    TarImportStrategy strategy = new TarImportStrategy(events::add, launchUpdater, parseService,
+        importProperties, extension, !TAR_EXTENSION.equals(extension));
+    return strategy.importLaunch(new ByteArrayMultipartFile("report." + extension, archive),
+        "project", new LaunchImportRQ(), new ImportProgress("launch", "project", extension));
+  }
+
+  static byte[] report(int testcases) {
+    StringBuilder report = new StringBuilder("<testsuite name=\"suite\">");
+    for (int i = 0; i < testcases; i++) {
+      report.append("<testcase name=\"test").append(i).append("\"/>");
+    }
+    return report.append("</testsuite>").toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] tar(byte[] report) {
+    ByteArrayOutputStream tar = new ByteArrayOutputStream();
+    byte[] header = new byte[BLOCK_SIZE];
+    put(header, 0, "report.xml");
+    put(header, 100, "0000644");
+    put(header, 124, String.format("%011o", report.length));
+    put(header, 136, String.format("%011o", 0));
+    header[156] = '0';
+    put(header, 257, "ustar");
+    put(header, 263, "00");
+    long sum = 0;
+    for (int i = 0; i < BLOCK_SIZE; i++) {
+      sum += i >= 148 && i < 156 ? ' ' : header[i] & 0xFF;
+    }
+    put(header, 148, String.format("%06o\0 ", sum));
+    tar.writeBytes(header);
+    tar.writeBytes(report);
+    tar.writeBytes(new byte[(BLOCK_SIZE - report.length % BLOCK_SIZE) % BLOCK_SIZE]);
+    // end of archive marker
+    tar.writeBytes(new byte[2 * BLOCK_SIZE]);
+    return tar.toByteArray();
+  }
+
+  static byte[] gzip(byte[] content) throws IOException {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressed)) {
+      gzipStream.write(content);
+    }
+    return compressed.toByteArray();
+  }
+
+  private static void put(byte[] header, int offset, String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    System.arraycopy(bytes, 0, header, offset, bytes.length);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import com.epam.reportportal.extension.importing.utils.FileSystemMultipartFile;
+import com.epam.reportportal.infrastructure.events.SaveLogRqEvent;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class XunitImportHandlerTest {
+
+  private static final int LOG_MAX_CHARS = 1024;
+
+  private static final int PREVIEW_LENGTH = 64;
+
+  private final List<Object> events = new ArrayList<>();
+
+  @Test
+  void logOverLimitIsAttachedAsFile() throws IOException {
+    String log = IntStream.range(0, 500).mapToObj(i -> String.format("line-%04d", i))
+        .collect(Collectors.joining("\n"));
+
+    SaveLogRqEvent logEvent;
+    Path attachment;
+    try (XunitImportHandler handler = parse(log)) {
+      logEvent = onlyLogEvent();
+      assertEquals("system-out.log", logEvent.getSaveLogRQ().getFile().getName());
+      assertEquals(log.substring(0, PREVIEW_LENGTH) + "\n...\nFull output is attached as "
+          + "system-out.log", logEvent.getSaveLogRQ().getMessage());
+
+      FileSystemMultipartFile file = (FileSystemMultipartFile) logEvent.getFile();
+      assertEquals("system-out.log", file.getOriginalFilename());
+      assertEquals(log, new String(file.getBytes(), StandardCharsets.UTF_8));
+      attachment = file.getPath();
+      assertTrue(Files.exists(attachment));
+    }
+    assertFalse(Files.exists(attachment));
+  }
+
+  @Test
+  void logWithinLimitIsSentInline() {
+    String log = "line-0000\nline-0001";
+
+    try (XunitImportHandler handler = parse(log)) {
+      SaveLogRqEvent logEvent = onlyLogEvent();
+      assertEquals(log, logEvent.getSaveLogRQ().getMessage());
+      assertNull(logEvent.getSaveLogRQ().getFile());
+      assertNull(logEvent.getFile());
+    }
+  }
+
+  private XunitImportHandler parse(String log) {
+    ImportProperties importProperties = new ImportProperties();
+    importProperties.setLogInMemoryLimit(LOG_MAX_CHARS);
+    importProperties.setLogPreviewLength(PREVIEW_LENGTH);
+    byte[] report = ("<testsuite name=\"suite\"><testcase name=\"test\"><system-out>" + log
+        + "</system-out></testcase></testsuite>").getBytes(StandardCharsets.UTF_8);
+    XunitImportHandler handler = new XunitImportHandler(events::add, importProperties);
+    handler.withParameters(new ImportProgress("launch", "project", "xml"), false);
+    importProperties.getParserType().create().parse(new ByteArrayInputStream(report), handler);
+    return handler;
+  }
+
+  private SaveLogRqEvent onlyLogEvent() {
+    List<SaveLogRqEvent> logEvents = events.stream().filter(SaveLogRqEvent.class::isInstance)
+        .map(SaveLogRqEvent.class::cast).toList();
+    assertEquals(1, logEvents.size());
+    return logEvents.get(0);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class XunitParseServiceTest {
+
+  private static final long COMMIT_MILLIS = 300;
+
+  private static final byte[] REPORT = ("<testsuite name=\"suite\">"
+      + "<testcase name=\"first\"/><testcase name=\"second\"/></testsuite>")
+      .getBytes(StandardCharsets.UTF_8);
+
+  private final ExecutorService publishExecutor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void shutdown() {
+    publishExecutor.shutdownNow();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 16})
+  void batchTransactionIsCountedAsPublishTime(int pipelineCapacity) {
+    ImportProperties importProperties = new ImportProperties();
+    importProperties.setPublishBatchSize(100);
+    importProperties.setPublishPipelineCapacity(pipelineCapacity);
+    // the commit of the batch transaction takes most of the publishing
+    BatchingEventPublisher.BatchExecutor batchExecutor = batch -> {
+      batch.run();
+      sleep(COMMIT_MILLIS);
+    };
+    XunitParseService parseService = new XunitParseService(event -> {
+    }, importProperties, batchExecutor, () -> publishExecutor, ImportMetrics.noop());
+    ImportProgress progress = new ImportProgress("launch", "project", "xml");
+
+    parseService.call(new ByteArrayInputStream(REPORT), progress, false);
+
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(progress.getPublishNanos()) >= COMMIT_MILLIS);
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(progress.getParseNanos()) < COMMIT_MILLIS);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 16})
+  void parseFailureKeepsFlushFailureSuppressed(int pipelineCapacity) {
+    ImportProperties importProperties = new ImportProperties();
+    importProperties.setPublishBatchSize(100);
+    importProperties.setPublishPipelineCapacity(pipelineCapacity);
+    IllegalStateException flushFailure = new IllegalStateException("Rolled back");
+    XunitParseService parseService = new XunitParseService(event -> {
+    }, importProperties, batch -> {
+      throw flushFailure;
+    }, () -> publishExecutor, ImportMetrics.noop());
+    ImportProgress progress = new ImportProgress("launch", "project", "xml");
+    byte[] truncatedReport = Arrays.copyOf(REPORT, REPORT.length - 20);
+
+    RuntimeException failure = assertThrows(RuntimeException.class,
+        () -> parseService.call(new ByteArrayInputStream(truncatedReport), progress, false));
+
+    assertNotSame(flushFailure, failure);
+    assertTrue(Arrays.asList(failure.getSuppressed()).contains(flushFailure));
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.xml.sax.Attributes;
+
+/**
+ * Both parse engines have to drive {@link XunitImportHandler} with the same document events.
+ */
+class XunitParserEquivalenceTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "<testsuite name=\"suite\" tests=\"1\"><testcase name=\"test\" time=\"0.5\"/></testsuite>",
+      "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+          + "<testsuites>\n"
+          + "  <testsuite name=\"first\" timestamp=\"2026-01-01T10:00:00\">\n"
+          + "    <properties><property name=\"env\" value=\"ci\"/></properties>\n"
+          + "    <testcase classname=\"a.B\" name=\"passed\" time=\"1.25\"/>\n"
+          + "    <testcase classname=\"a.B\" name=\"failed\" time=\"0.1\">\n"
+          + "      <failure message=\"expected &lt;1&gt;\" type=\"AssertionError\">trace\n"
+          + "        at a.B.failed(B.java:10)</failure>\n"
+          + "      <system-out>out &amp; more</system-out>\n"
+          + "    </testcase>\n"
+          + "    <testcase classname=\"a.B\" name=\"skipped\"><skipped/></testcase>\n"
+          + "  </testsuite>\n"
+          + "  <testsuite name=\"second\"><testcase name=\"error\">"
+          + "<error message=\"boom\">cause</error></testcase></testsuite>\n"
+          + "</testsuites>",
+      "<testsuite name=\"a&amp;b\"><!-- comment --><?pi data?><testcase name=\"x\">"
+          + "<system-out>a &lt; b<![CDATA[<c> & ]]>d&#x41;&#66;</system-out>"
+          + "<system-err><![CDATA[]]></system-err></testcase></testsuite>",
+      "<testsuite name=\"multi\n line\ttab\"><testcase name=\"ünicode ✓\">"
+          + "<system-out>ünicode ✓ 😀</system-out></testcase></testsuite>",
+      "<testsuite xmlns:ns=\"urn:report\" name=\"prefixed\" ns:id=\"1\">"
+          + "<testcase name=\"test\" ns:name=\"other\"/></testsuite>"})
+  void parsersEmitSameEvents(String report) {
+    byte[] xml = report.getBytes(StandardCharsets.UTF_8);
+
+    assertEquals(trace(XunitParserType.SAX, xml), trace(XunitParserType.STAX, xml));
+  }
+
+  @ParameterizedTest
+  @EnumSource(XunitParserType.class)
+  void parsersRejectDoctype(XunitParserType parserType) {
+    byte[] xml = ("<!DOCTYPE testsuite [<!ENTITY x \"y\">]><testsuite name=\"&x;\"/>")
+        .getBytes(StandardCharsets.UTF_8);
+
+    assertThrows(ReportPortalException.class, () -> trace(parserType, xml));
+  }
+
+  @ParameterizedTest
+  @EnumSource(XunitParserType.class)
+  void parsersRejectMalformedReport(XunitParserType parserType) {
+    byte[] xml = "<testsuite name=\"suite\"><testcase></testsuite>"
+        .getBytes(StandardCharsets.UTF_8);
+
+    assertThrows(ReportPortalException.class, () -> trace(parserType, xml));
+  }
+
+  /*
+   * Text is coalesced between element events, as the engines may split it differently
+   */
+  private static List<String> trace(XunitParserType parserType, byte[] xml) {
+    List<String> events = new ArrayList<>();
+    List<String> published = new ArrayList<>();
+    StringBuilder text = new StringBuilder();
+    XunitImportHandler handler = new XunitImportHandler(
+        event -> published.add(event.getClass().getSimpleName()), new ImportProperties()) {
+
+      @Override
+      public void startElement(String uri, String localName, String qName,
+          Attributes attributes) {
+        flushText();
+        StringBuilder element = new StringBuilder("start ").append(qName);
+        for (int i = 0; i < attributes.getLength(); i++) {
+          element.append(' ').append(attributes.getQName(i)).append("=[")
+              .append(attributes.getValue(i)).append(']');
+        }
+        element.append(" name=[").append(attributes.getValue("name")).append(']');
+        events.add(element.toString());
+        super.startElement(uri, localName, qName, attributes);
+      }
+
+      @Override
+      public void endElement(String uri, String localName, String qName) {
+        flushText();
+        events.add("end " + qName);
+        super.endElement(uri, localName, qName);
+      }
+
+      @Override
+      public void characters(char[] ch, int start, int length) {
+        text.append(ch, start, length);
+        super.characters(ch, start, length);
+      }
+
+      private void flushText() {
+        if (text.length() > 0) {
+          events.add("text [" + text + "]");
+          text.setLength(0);
+        }
+      }
+    };
+    try (handler) {
+      handler.withParameters(new ImportProgress("launch", "project", "xml"), false);
+      parserType.create().parse(new ByteArrayInputStream(xml), handler);
+    }
+    events.addAll(published);
+    return events;
+  }
+}
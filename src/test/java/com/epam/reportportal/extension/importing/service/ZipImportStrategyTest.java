@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service;
+
+import static com.epam.reportportal.extension.importing.service.TarImportStrategyTest.gzip;
+import static com.epam.reportportal.extension.importing.service.TarImportStrategyTest.report;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.reportportal.extension.importing.config.ImportProperties;
+import com.epam.reportportal.extension.importing.model.LaunchImportRQ;
+import com.epam.reportportal.infrastructure.events.FinishLaunchRqEvent;
+import com.epam.reportportal.infrastructure.events.StartRootItemRqEvent;
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Imports of zip archives read as a stream, with parallel parsing disabled. Reports have 1, 2, 4
+ * and 8 testcases, so the imported testcases show which reports are imported and that none of
+ * them is imported twice.
+ */
+class ZipImportStrategyTest {
+
+  private final List<Object> events = new CopyOnWriteArrayList<>();
+
+  private final RecordingLaunchUpdater launchUpdater = new RecordingLaunchUpdater();
+
+  private final ImportProperties importProperties = new ImportProperties();
+
+  private final ImportProgress progress = new ImportProgress("launch", "project", "zip");
+
+  @Test
+  void importsReportsOfArchive() throws IOException {
+    Map<String, byte[]> entries = new LinkedHashMap<>();
+    entries.put("first.xml", report(1));
+    entries.put("reports/", new byte[0]);
+    entries.put("reports/second.xml", report(2));
+    entries.put("notes.txt", bytes("notes"));
+
+    importLaunch(zip(entries));
+
+    assertEquals(3, progress.getTestcases());
+    assertEquals(2, progress.getFiles());
+    assertEquals(1, progress.getSkippedEntries());
+    assertEquals(2, count(StartRootItemRqEvent.class));
+    assertEquals(1, count(FinishLaunchRqEvent.class));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 2, 3})
+  void storedEntryWithDataDescriptorIsReadFromCentralDirectory(int entryWithDescriptor) {
+    String[] names = {"first.xml", "second.xml", "notes.txt", "third.xml"};
+    byte[][] contents = {report(1), report(2), bytes("notes"), report(4)};
+
+    importLaunch(storedZip(names, contents, entryWithDescriptor));
+
+    assertEquals(7, progress.getTestcases());
+    assertEquals(3, progress.getFiles());
+    assertEquals(1, progress.getSkippedEntries());
+    assertEquals(1, count(FinishLaunchRqEvent.class));
+  }
+
+  @Test
+  void importsReportsOfNestedArchives() throws IOException {
+    Map<String, byte[]> deeper = new LinkedHashMap<>();
+    deeper.put("fourth.xml", report(8));
+    Map<String, byte[]> nested = new LinkedHashMap<>();
+    nested.put("second.xml", report(2));
+    nested.put("third.xml.gz", gzip(report(4)));
+    nested.put("deeper.zip", zip(deeper));
+    Map<String, byte[]> entries = new LinkedHashMap<>();
+    entries.put("first.xml", report(1));
+    entries.put("nested.zip", zip(nested));
+    entries.put("nested.zip.gz", gzip(zip(deeper)));
+
+    importLaunch(zip(entries));
+
+    assertEquals(1 + 2 + 4 + 8 + 8, progress.getTestcases());
+    assertEquals(5, progress.getFiles());
+  }
+
+  @Test
+  void nestedArchiveWithDataDescriptorIsRejected() throws IOException {
+    Map<String, byte[]> entries = new LinkedHashMap<>();
+    entries.put("first.xml", report(1));
+    entries.put("nested.zip", storedZip(new String[]{"second.xml"}, new byte[][]{report(2)}, 0));
+
+    assertThrows(ReportPortalException.class, () -> importLaunch(zip(entries)));
+    assertEquals(List.of("launch"), launchUpdater.getInterrupted());
+  }
+
+  @Test
+  void archiveNestedTooDeeplyIsRejected() throws IOException {
+    importProperties.setArchiveMaxDepth(1);
+    Map<String, byte[]> deeper = new LinkedHashMap<>();
+    deeper.put("second.xml", report(2));
+    Map<String, byte[]> nested = new LinkedHashMap<>();
+    nested.put("deeper.zip", zip(deeper));
+    Map<String, byte[]> entries = new LinkedHashMap<>();
+    entries.put("first.xml", report(1));
+    entries.put("nested.zip", zip(nested));
+
+    assertThrows(ReportPortalException.class, () -> importLaunch(zip(entries)));
+    assertEquals(List.of("launch"), launchUpdater.getInterrupted());
+  }
+
+  @Test
+  void archiveOverUncompressedSizeIsRejected() throws IOException {
+    importProperties.setArchiveMaxUncompressedSize(4 * 1024);
+    Map<String, byte[]> nested = new LinkedHashMap<>();
+    nested.put("second.xml", report(1000));
+    Map<String, byte[]> entries = new LinkedHashMap<>();
+    entries.put("first.xml", report(1));
+    entries.put("nested.zip", zip(nested));
+
+    assertThrows(ReportPortalException.class, () -> importLaunch(zip(entries)));
+  }
+
+  @Test
+  void corruptedArchiveIsRejectedBeforeLaunchIsStarted() {
+    assertThrows(ReportPortalException.class, () -> importLaunch(bytes("not a zip")));
+    assertTrue(events.isEmpty());
+    assertTrue(launchUpdater.getInterrupted().isEmpty());
+  }
+
+  private void importLaunch(byte[] archive) {
+    importProperties.setPublishPipelineCapacity(0);
+    XunitParseService parseService = new XunitParseService(events::add, importProperties,
+        Runnable::run, () -> null, ImportMetrics.noop());
+    new ZipImportStrategy(events::add, launchUpdater, parseService, importProperties, () -> null)
+        .importLaunch(new ByteArrayMultipartFile("reports.zip", archive), "project",
+            new LaunchImportRQ(), progress);
+  }
+
+  private long count(Class<?> eventType) {
+    return events.stream().filter(eventType::isInstance).count();
+  }
+
+  private static byte[] zip(Map<String, byte[]> entries) throws IOException {
+    ByteArrayOutputStream zip = new ByteArrayOutputStream();
+    try (ZipOutputStream zipStream = new ZipOutputStream(zip)) {
+      for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+        zipStream.putNextEntry(new ZipEntry(entry.getKey()));
+        zipStream.write(entry.getValue());
+      }
+    }
+    return zip.toByteArray();
+  }
+
+  /*
+   * ZipOutputStream writes the sizes of stored entries before their data, the entry with
+   * the given index has them in a data descriptor after its data instead
+   */
+  private static byte[] storedZip(String[] names, byte[][] contents, int entryWithDescriptor) {
+    ByteArrayOutputStream zip = new ByteArrayOutputStream();
+    ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+    for (int i = 0; i < names.length; i++) {
+      byte[] name = bytes(names[i]);
+      byte[] content = contents[i];
+      CRC32 crc = new CRC32();
+      crc.update(content);
+      boolean descriptor = i == entryWithDescriptor;
+      int offset = zip.size();
+      writeInt(zip, 0x04034b50);
+      writeShort(zip, 10);
+      writeShort(zip, descriptor ? 8 : 0);
+      // stored, no modification time
+      writeShort(zip, 0);
+      writeInt(zip, 0);
+      writeInt(zip, descriptor ? 0 : crc.getValue());
+      writeInt(zip, descriptor ? 0 : content.length);
+      writeInt(zip, descriptor ? 0 : content.length);
+      writeShort(zip, name.length);
+      writeShort(zip, 0);
+      zip.writeBytes(name);
+      zip.writeBytes(content);
+      if (descriptor) {
+        writeInt(zip, 0x08074b50);
+        writeInt(zip, crc.getValue());
+        writeInt(zip, content.length);
+        writeInt(zip, content.length);
+      }
+      writeInt(centralDirectory, 0x02014b50);
+      writeShort(centralDirectory, 20);
+      writeShort(centralDirectory, 10);
+      writeShort(centralDirectory, descriptor ? 8 : 0);
+      writeShort(centralDirectory, 0);
+      writeInt(centralDirectory, 0);
+      writeInt(centralDirectory, crc.getValue());
+      writeInt(centralDirectory, content.length);
+      writeInt(centralDirectory, content.length);
+      writeShort(centralDirectory, name.length);
+      // no extra field, comment, disk number and attributes
+      writeShort(centralDirectory, 0);
+      writeShort(centralDirectory, 0);
+      writeShort(centralDirectory, 0);
+      writeShort(centralDirectory, 0);
+      writeInt(centralDirectory, 0);
+      writeInt(centralDirectory, offset);
+      centralDirectory.writeBytes(name);
+    }
+    int centralDirectoryOffset = zip.size();
+    zip.writeBytes(centralDirectory.toByteArray());
+    writeInt(zip, 0x06054b50);
+    writeShort(zip, 0);
+    writeShort(zip, 0);
+    writeShort(zip, names.length);
+    writeShort(zip, names.length);
+    writeInt(zip, centralDirectory.size());
+    writeInt(zip, centralDirectoryOffset);
+    writeShort(zip, 0);
+    return zip.toByteArray();
+  }
+
+  private static void writeShort(ByteArrayOutputStream out, int value) {
+    out.write(value);
+    out.write(value >> 8);
+  }
+
+  private static void writeInt(ByteArrayOutputStream out, long value) {
+    writeShort(out, (int) value);
+    writeShort(out, (int) (value >> 16));
+  }
+
+  private static byte[] bytes(String content) {
+    return content.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service.archive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ChannelZipFileTest {
+
+  private static final byte[] REPORT =
+      "<testsuite name=\"suite\"><testcase name=\"test\"/></testsuite>".getBytes(
+          StandardCharsets.UTF_8);
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void readsStoredAndDeflatedEntries() throws IOException {
+    // larger entries are read in several chunks
+    byte[] large = new byte[256 * 1024];
+    new Random(42).nextBytes(large);
+    Path zip = tempDir.resolve("report.zip");
+    try (ZipOutputStream zipStream = new ZipOutputStream(Files.newOutputStream(zip))) {
+      zipStream.putNextEntry(storedEntry("stored.xml", REPORT));
+      zipStream.write(REPORT);
+      zipStream.putNextEntry(new ZipEntry("deflated.xml"));
+      zipStream.write(REPORT);
+      zipStream.putNextEntry(storedEntry("stored.bin", large));
+      zipStream.write(large);
+      zipStream.putNextEntry(new ZipEntry("deflated.bin"));
+      zipStream.write(large);
+    }
+
+    try (ChannelZipFile zipFile = ChannelZipFile.open(zip)) {
+      List<ChannelZipFile.Entry> entries = zipFile.entries();
+      assertEquals(4, entries.size());
+      assertEntry(zipFile, entries.get(0), "stored.xml", REPORT);
+      assertEntry(zipFile, entries.get(1), "deflated.xml", REPORT);
+      assertEntry(zipFile, entries.get(2), "stored.bin", large);
+      assertEntry(zipFile, entries.get(3), "deflated.bin", large);
+      assertEquals(REPORT.length, entries.get(0).getCompressedSize());
+      assertTrue(entries.get(0).getLocalHeaderOffset() < entries.get(1).getLocalHeaderOffset());
+    }
+  }
+
+  @Test
+  void readsZip64Archive() throws IOException {
+    // more entries than the end of central directory record can count
+    int count = 70_000;
+    Path zip = tempDir.resolve("zip64.zip");
+    try (ZipOutputStream zipStream = new ZipOutputStream(Files.newOutputStream(zip))) {
+      for (int i = 0; i < count; i++) {
+        zipStream.putNextEntry(new ZipEntry("report-" + i + ".xml"));
+        zipStream.write(REPORT);
+      }
+    }
+
+    try (ChannelZipFile zipFile = ChannelZipFile.open(zip)) {
+      List<ChannelZipFile.Entry> entries = zipFile.entries();
+      assertEquals(count, entries.size());
+      assertEntry(zipFile, entries.get(count - 1), "report-" + (count - 1) + ".xml", REPORT);
+    }
+  }
+
+  @Test
+  void findsEndOfCentralDirectoryBeforeComment() throws IOException {
+    Path zip = tempDir.resolve("comment.zip");
+    try (ZipOutputStream zipStream = new ZipOutputStream(Files.newOutputStream(zip))) {
+      zipStream.setComment("archived by the build");
+      zipStream.putNextEntry(new ZipEntry("report.xml"));
+      zipStream.write(REPORT);
+    }
+
+    try (ChannelZipFile zipFile = ChannelZipFile.open(zip)) {
+      assertEquals(1, zipFile.entries().size());
+      assertEntry(zipFile, zipFile.entries().get(0), "report.xml", REPORT);
+    }
+  }
+
+  @Test
+  void archiveCanBeDeletedOnceClosed() throws IOException {
+    Path zip = writeSingleEntry("report.xml", REPORT);
+    try (ChannelZipFile zipFile = ChannelZipFile.open(zip);
+        InputStream entryStream = zipFile.getInputStream(zipFile.entries().get(0))) {
+      assertArrayEquals(REPORT, entryStream.readAllBytes());
+    }
+
+    Files.delete(zip);
+    assertFalse(Files.exists(zip));
+  }
+
+  @Test
+  void rejectsCorruptLocalHeader() throws IOException {
+    Path zip = writeSingleEntry("report.xml", REPORT);
+    corrupt(zip, 0);
+
+    try (ChannelZipFile zipFile = ChannelZipFile.open(zip)) {
+      ZipException e = assertThrows(ZipException.class,
+          () -> zipFile.getInputStream(zipFile.entries().get(0)));
+      assertEquals("Invalid local file header of entry report.xml", e.getMessage());
+    }
+  }
+
+  @Test
+  void rejectsCorruptEntryData() throws IOException {
+    Path zip = tempDir.resolve("report.zip");
+    try (ZipOutputStream zipStream = new ZipOutputStream(Files.newOutputStream(zip))) {
+      zipStream.putNextEntry(storedEntry("report.xml", REPORT));
+      zipStream.write(REPORT);
+    }
+    // the first byte of the stored content
+    corrupt(zip, 30 + "report.xml".length());
+
+    try (ChannelZipFile zipFile = ChannelZipFile.open(zip);
+        InputStream entryStream = zipFile.getInputStream(zipFile.entries().get(0))) {
+      ZipException e = assertThrows(ZipException.class, entryStream::readAllBytes);
+      assertEquals("Invalid CRC of entry report.xml", e.getMessage());
+    }
+  }
+
+  @Test
+  void rejectsArchiveWithoutEndOfCentralDirectory() throws IOException {
+    Path zip = tempDir.resolve("report.zip");
+    Files.write(zip, REPORT);
+
+    ZipException e = assertThrows(ZipException.class, () -> ChannelZipFile.open(zip));
+    assertEquals("Zip archive is corrupted", e.getMessage());
+  }
+
+  private Path writeSingleEntry(String name, byte[] content) throws IOException {
+    Path zip = tempDir.resolve("report.zip");
+    try (ZipOutputStream zipStream = new ZipOutputStream(Files.newOutputStream(zip))) {
+      zipStream.putNextEntry(new ZipEntry(name));
+      zipStream.write(content);
+    }
+    return zip;
+  }
+
+  private static void corrupt(Path zip, int offset) throws IOException {
+    byte[] bytes = Files.readAllBytes(zip);
+    bytes[offset] ^= 0x7F;
+    try (OutputStream outputStream = Files.newOutputStream(zip)) {
+      outputStream.write(bytes);
+    }
+  }
+
+  private static ZipEntry storedEntry(String name, byte[] content) {
+    CRC32 crc = new CRC32();
+    crc.update(content);
+    ZipEntry entry = new ZipEntry(name);
+    entry.setMethod(ZipEntry.STORED);
+    entry.setSize(content.length);
+    entry.setCompressedSize(content.length);
+    entry.setCrc(crc.getValue());
+    return entry;
+  }
+
+  private static void assertEntry(ChannelZipFile zipFile, ChannelZipFile.Entry entry, String name,
+      byte[] content) throws IOException {
+    assertEquals(name, entry.getName());
+    assertEquals(content.length, entry.getSize());
+    try (InputStream entryStream = zipFile.getInputStream(entry)) {
+      assertArrayEquals(content, entryStream.readAllBytes());
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service.archive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class TarArchiveReaderTest {
+
+  private static final int BLOCK_SIZE = 512;
+
+  private static final byte[] REPORT =
+      "<testsuite name=\"suite\"><testcase name=\"test\"/></testsuite>".getBytes(
+          StandardCharsets.UTF_8);
+
+  @Test
+  void readsUstarEntries() throws IOException {
+    ByteArrayOutputStream tar = new ByteArrayOutputStream();
+    writeEntry(tar, header("reports/", "", (byte) '5', 0));
+    writeEntry(tar, header("report.xml", "reports", (byte) '0', REPORT.length), REPORT);
+    writeEntry(tar, header("other.xml", "", (byte) '0', REPORT.length), REPORT);
+
+    TarArchiveReader reader = reader(tar);
+    TarArchiveReader.Entry directory = reader.nextEntry();
+    assertEquals("reports/", directory.getName());
+    assertTrue(directory.isDirectory());
+    assertEntry(reader.nextEntry(), "reports/report.xml", REPORT);
+    // the content of an entry which is not read is skipped
+    assertEquals("other.xml", reader.nextEntry().getName());
+    assertNull(reader.nextEntry());
+  }
+
+  @Test
+  void readsGnuLongName() throws IOException {
+    String name = "reports/" + "nested/".repeat(20) + "report.xml";
+    byte[] nameBytes = (name + "\0").getBytes(StandardCharsets.UTF_8);
+    ByteArrayOutputStream tar = new ByteArrayOutputStream();
+    writeEntry(tar, header("././@LongLink", "", (byte) 'L', nameBytes.length), nameBytes);
+    writeEntry(tar, header(name.substring(0, 99), "", (byte) '0', REPORT.length), REPORT);
+
+    TarArchiveReader reader = reader(tar);
+    assertEntry(reader.nextEntry(), name, REPORT);
+    assertNull(reader.nextEntry());
+  }
+
+  @Test
+  void readsPaxPathAndSize() throws IOException {
+    String name = "reports/" + "nested/".repeat(20) + "report.xml";
+    byte[] records = (paxRecord("path", name) + paxRecord("size",
+        String.valueOf(REPORT.length))).getBytes(StandardCharsets.UTF_8);
+    ByteArrayOutputStream tar = new ByteArrayOutputStream();
+    writeEntry(tar, header("PaxHeaders/report.xml", "", (byte) 'x', records.length), records);
+    // the size of the header is overridden by the PAX record
+    writeEntry(tar, header("report.xml", "", (byte) '0', 0), REPORT);
+
+    TarArchiveReader reader = reader(tar);
+    assertEntry(reader.nextEntry(), name, REPORT);
+    assertNull(reader.nextEntry());
+  }
+
+  @Test
+  void readsBase256Size() throws IOException {
+    byte[] header = header("report.xml", "", (byte) '0', 0);
+    Arrays.fill(header, 124, 136, (byte) 0);
+    header[124] = (byte) 0x80;
+    header[134] = (byte) (REPORT.length >> 8);
+    header[135] = (byte) REPORT.length;
+    checksum(header);
+    ByteArrayOutputStream tar = new ByteArrayOutputStream();
+    writeEntry(tar, header, REPORT);
+
+    TarArchiveReader reader = reader(tar);
+    assertEntry(reader.nextEntry(), "report.xml", REPORT);
+    assertNull(reader.nextEntry());
+  }
+
+  @Test
+  void rejectsBadChecksum() {
+    byte[] header = header("report.xml", "", (byte) '0', REPORT.length);
+    header[0] = 'R';
+    ByteArrayOutputStream tar = new ByteArrayOutputStream();
+    writeEntry(tar, header, REPORT);
+
+    IOException e = assertThrows(IOException.class, () -> reader(tar).nextEntry());
+    assertEquals("Tar archive is corrupted", e.getMessage());
+  }
+
+  @Test
+  void rejectsTruncatedEntry() throws IOException {
+    ByteArrayOutputStream tar = new ByteArrayOutputStream();
+    tar.writeBytes(header("report.xml", "", (byte) '0', REPORT.length));
+    tar.write(REPORT, 0, 10);
+
+    TarArchiveReader.Entry entry =
+        new TarArchiveReader(new ByteArrayInputStream(tar.toByteArray())).nextEntry();
+    assertFalse(entry.isDirectory());
+    assertThrows(IOException.class, () -> entry.getInputStream().readAllBytes());
+  }
+
+  private static TarArchiveReader reader(ByteArrayOutputStream tar) {
+    // end of archive marker
+    tar.writeBytes(new byte[2 * BLOCK_SIZE]);
+    return new TarArchiveReader(new ByteArrayInputStream(tar.toByteArray()));
+  }
+
+  private static void assertEntry(TarArchiveReader.Entry entry, String name, byte[] content)
+      throws IOException {
+    assertEquals(name, entry.getName());
+    assertFalse(entry.isDirectory());
+    assertEquals(content.length, entry.getSize());
+    assertArrayEquals(content, entry.getInputStream().readAllBytes());
+  }
+
+  private static void writeEntry(ByteArrayOutputStream tar, byte[] header, byte[]... content) {
+    tar.writeBytes(header);
+    for (byte[] data : content) {
+      tar.writeBytes(data);
+      tar.writeBytes(new byte[(BLOCK_SIZE - data.length % BLOCK_SIZE) % BLOCK_SIZE]);
+    }
+  }
+
+  private static byte[] header(String name, String prefix, byte type, long size) {
+    byte[] header = new byte[BLOCK_SIZE];
+    put(header, 0, name);
+    put(header, 100, "0000644");
+    put(header, 124, String.format("%011o", size));
+    put(header, 136, String.format("%011o", 0));
+    header[156] = type;
+    put(header, 257, "ustar");
+    put(header, 263, "00");
+    put(header, 345, prefix);
+    checksum(header);
+    return header;
+  }
+
+  private static void checksum(byte[] header) {
+    long sum = 0;
+    for (int i = 0; i < BLOCK_SIZE; i++) {
+      sum += i >= 148 && i < 156 ? ' ' : header[i] & 0xFF;
+    }
+    put(header, 148, String.format("%06o\0 ", sum));
+  }
+
+  private static void put(byte[] header, int offset, String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    System.arraycopy(bytes, 0, header, offset, bytes.length);
+  }
+
+  /*
+   * "<length> <key>=<value>\n", the length counts its own digits as well
+   */
+  private static String paxRecord(String key, String value) {
+    String record = " " + key + "=" + value + "\n";
+    int length = record.length();
+    while (String.valueOf(length).length() + record.length() != length) {
+      length = String.valueOf(length).length() + record.length();
+    }
+    return length + record;
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.service.upload;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.reportportal.infrastructure.rules.exception.ReportPortalException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ChunkedUploadTest {
+
+  private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(1);
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void resentBytesAreSkipped() throws IOException {
+    ChunkedUpload upload = upload(6, IDLE_TIMEOUT);
+
+    assertEquals(3, upload.append(0, chunk("abc")));
+    assertEquals(3, upload.append(0, chunk("abc")));
+    assertEquals(6, upload.append(1, chunk("bcdef")));
+    upload.complete();
+
+    assertArrayEquals(bytes("abcdef"), upload.getBytes());
+  }
+
+  @Test
+  void chunkAfterReceivedBytesIsRejected() throws IOException {
+    ChunkedUpload upload = upload(6, IDLE_TIMEOUT);
+    upload.append(0, chunk("abc"));
+
+    assertThrows(ReportPortalException.class, () -> upload.append(4, chunk("ef")));
+    assertThrows(ReportPortalException.class, () -> upload.append(-1, chunk("abc")));
+    assertEquals(3, upload.getReceived());
+  }
+
+  @Test
+  void chunkBeyondDeclaredSizeIsRejected() throws IOException {
+    ChunkedUpload upload = upload(4, IDLE_TIMEOUT);
+    upload.append(0, chunk("ab"));
+
+    assertThrows(ReportPortalException.class, () -> upload.append(2, chunk("cde")));
+    assertEquals(2, upload.getReceived());
+
+    // the rejected chunk may be resent within the declared size
+    upload.append(2, chunk("cd"));
+    upload.complete();
+    assertArrayEquals(bytes("abcd"), upload.getBytes());
+  }
+
+  @Test
+  void incompleteUploadCantBeCompleted() throws IOException {
+    ChunkedUpload upload = upload(4, IDLE_TIMEOUT);
+    upload.append(0, chunk("ab"));
+
+    assertThrows(ReportPortalException.class, upload::complete);
+  }
+
+  @Test
+  void readerWaitsForChunks() throws Exception {
+    ChunkedUpload upload = upload(6, IDLE_TIMEOUT);
+    upload.append(0, chunk("abc"));
+
+    try (InputStream inputStream = upload.getInputStream()) {
+      byte[] prefix = new byte[6];
+      assertEquals(3, inputStream.read(prefix));
+      assertArrayEquals(bytes("abc"), Arrays.copyOf(prefix, 3));
+
+      CompletableFuture<byte[]> rest = CompletableFuture.supplyAsync(() -> {
+        try {
+          return inputStream.readAllBytes();
+        } catch (IOException e) {
+          throw new IllegalStateException(e);
+        }
+      });
+      Thread.sleep(100);
+      assertFalse(rest.isDone());
+
+      upload.append(3, chunk("def"));
+      upload.complete();
+      assertArrayEquals(bytes("def"), rest.get(10, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void idleUploadFailsReader() throws IOException {
+    ChunkedUpload upload = upload(6, Duration.ofMillis(100));
+    upload.append(0, chunk("abc"));
+
+    try (InputStream inputStream = upload.getInputStream()) {
+      assertThrows(IOException.class, inputStream::readAllBytes);
+    }
+    assertThrows(ReportPortalException.class, () -> upload.append(3, chunk("def")));
+  }
+
+  @Test
+  void abortedUploadFailsReader() throws IOException {
+    ChunkedUpload upload = upload(6, IDLE_TIMEOUT);
+    upload.abort("aborted");
+
+    try (InputStream inputStream = upload.getInputStream()) {
+      assertThrows(IOException.class, inputStream::read);
+    }
+  }
+
+  @Test
+  void spoolFileIsDeletedOnceReleasedTwice() throws IOException {
+    ChunkedUploadRegistry registry = new ChunkedUploadRegistry(tempDir, IDLE_TIMEOUT);
+    ChunkedUpload upload = registry.create("project", "report.xml", 3);
+    upload.append(0, chunk("abc"));
+    Path spoolFile = onlySpoolFile();
+
+    registry.complete(upload);
+    assertTrue(Files.exists(spoolFile));
+    assertThrows(ReportPortalException.class, () -> registry.get(upload.getUploadId(), "project"));
+
+    upload.release();
+    assertFalse(Files.exists(spoolFile));
+  }
+
+  @Test
+  void abortedUploadIsReleasedOnce() throws IOException {
+    ChunkedUploadRegistry registry = new ChunkedUploadRegistry(tempDir, IDLE_TIMEOUT);
+    ChunkedUpload upload = registry.create("project", "report.xml", 3);
+    Path spoolFile = onlySpoolFile();
+
+    registry.abort(upload, "aborted");
+    registry.abortAll();
+    assertTrue(Files.exists(spoolFile));
+
+    upload.release();
+    assertFalse(Files.exists(spoolFile));
+  }
+
+  @Test
+  void uploadOfAnotherProjectIsNotFound() {
+    ChunkedUploadRegistry registry = new ChunkedUploadRegistry(tempDir, IDLE_TIMEOUT);
+    ChunkedUpload upload = registry.create("project", "report.xml", 3);
+
+    assertEquals(upload, registry.get(upload.getUploadId(), "project"));
+    assertThrows(ReportPortalException.class, () -> registry.get(upload.getUploadId(), "other"));
+  }
+
+  private ChunkedUpload upload(long size, Duration idleTimeout) throws IOException {
+    return new ChunkedUpload("upload", "project", "report.xml", size,
+        Files.createTempFile(tempDir, "upload-", ".part"), idleTimeout);
+  }
+
+  private Path onlySpoolFile() throws IOException {
+    try (Stream<Path> files = Files.list(tempDir)) {
+      List<Path> spoolFiles = files.toList();
+      assertEquals(1, spoolFiles.size());
+      return spoolFiles.get(0);
+    }
+  }
+
+  private static InputStream chunk(String content) {
+    return new ByteArrayInputStream(bytes(content));
+  }
+
+  private static byte[] bytes(String content) {
+    return content.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.extension.importing.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TimestampParserTest {
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "1767261600000                          | 2026-01-01T10:00:00Z",
+      "0                                      | 1970-01-01T00:00:00Z",
+      "-1000                                  | 1969-12-31T23:59:59Z",
+      "2026-01-01T10:00:00                    | 2026-01-01T10:00:00Z",
+      "2026-01-01T10:00:00Z                   | 2026-01-01T10:00:00Z",
+      "2026-01-01T10:00:00.5                  | 2026-01-01T10:00:00.500Z",
+      "2026-01-01T10:00:00.025                | 2026-01-01T10:00:00.025Z",
+      "2026-01-01T10:00:00.123456789Z         | 2026-01-01T10:00:00.123456789Z",
+      "2026-01-01T12:30:00+02:30              | 2026-01-01T10:00:00Z",
+      "2026-01-01T05:00:00-05:00              | 2026-01-01T10:00:00Z",
+      "2026-01-01T01:00:00.250+01:00          | 2026-01-01T00:00:00.250Z",
+      "2024-02-29T23:59:59-00:30              | 2024-03-01T00:29:59Z",
+      "2026-01-01T10:00                       | 2026-01-01T10:00:00Z",
+      "'Thu, 1 Jan 2026 10:00:00 GMT'         | 2026-01-01T10:00:00Z",
+      "'Thu, 1 Jan 2026 12:00:00 +0200'       | 2026-01-01T10:00:00Z"})
+  void parsesSupportedFormats(String timestamp, Instant expected) {
+    assertEquals(expected, new TimestampParser().parse(timestamp));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "2026-01-01T10:00:00",
+      "2026-12-31T23:59:59.999999999",
+      "2026-06-15T08:30:15.1Z",
+      "2026-06-15T08:30:15+14:00",
+      "2026-06-15T08:30:15.000001-11:45"})
+  void isoDateTimeIsParsedAsFormatterDoes(String timestamp) {
+    assertEquals(TimestampParser.Format.FORMATTED.parse(timestamp),
+        TimestampParser.Format.ISO_DATE_TIME.parse(timestamp));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "2026-02-30T10:00:00",
+      "2026-01-01T10:00:00.",
+      "2026-01-01T10:00:00+0100",
+      "2026-01-01 10:00:00",
+      "2026-01-01T10:00"})
+  void valuesOutOfIsoFastPathAreLeftToFormatter(String timestamp) {
+    assertNull(TimestampParser.Format.ISO_DATE_TIME.parse(timestamp));
+  }
+
+  @Test
+  void formatOfFirstValueDoesNotRestrictFollowingOnes() {
+    TimestampParser parser = new TimestampParser();
+
+    assertEquals(Instant.parse("2026-01-01T10:00:00Z"), parser.parse("1767261600000"));
+    assertEquals(Instant.parse("2026-01-01T10:00:00.5Z"),
+        parser.parse("2026-01-01T12:00:00.5+02:00"));
+    assertEquals(Instant.parse("2026-01-01T10:00:00Z"),
+        parser.parse("Thu, 1 Jan 2026 10:00:00 GMT"));
+    assertEquals(Instant.parse("2026-01-01T10:00:01Z"), parser.parse("1767261601000"));
+  }
+
+  @Test
+  void rejectsEmptyValue() {
+    assertThrows(DateTimeException.class, () -> new TimestampParser().parse(""));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"yesterday", "2026-13-01T10:00:00", "2026-01-01T10:00:00.1234567890",
+      "2026-01-01T10:00:00+25:00"})
+  void rejectsUnsupportedValues(String timestamp) {
+    assertThrows(DateTimeParseException.class, () -> new TimestampParser().parse(timestamp));
+  }
+}